@@ -1,5 +1,6 @@
 package com.github.vtramo.turingmachine;
 
+import com.github.vtramo.turingmachine.engine.TuringMachine;
 import fr.brouillard.oss.cssfx.CSSFX;
 import io.github.palexdev.materialfx.theming.JavaFXThemes;
 import io.github.palexdev.materialfx.theming.MaterialFXStylesheets;
@@ -50,7 +51,7 @@ public class TuringMachineApplication extends Application {
     }
 
     public static String readResourceAsString(final String resourcePath) {
-        try (final InputStream resourceAsStream = TuringMachineApplication.class.getResourceAsStream(resourcePath)) {
+        try (final InputStream resourceAsStream = getResourceAsInputStream(resourcePath)) {
             return new String(resourceAsStream.readAllBytes());
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -58,6 +59,8 @@ public class TuringMachineApplication extends Application {
     }
 
     public static InputStream getResourceAsInputStream(final String resourcePath) {
-        return TuringMachineApplication.class.getResourceAsStream(resourcePath);
+        final InputStream resourceAsStream = TuringMachineApplication.class.getResourceAsStream(resourcePath);
+        // The bundled programs and the schema live in the core module
+        return resourceAsStream != null ? resourceAsStream : TuringMachine.class.getResourceAsStream(resourcePath);
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.github.vtramo.turingmachine;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An entry of the bundled example catalog. Only the name of the program is read when the catalog is built, the program
+ * is parsed in the background the first time it is {@link #load() loaded}, and the result is cached.
+ */
+public final class TuringMachineStoredProgram {
+    public static final Collection<TuringMachineStoredProgram> turingMachineStoredPrograms = List.of(
+        TuringMachineStoredProgram.of(Path.of("/turing-machine-palindrome-two-strings.yaml")),
+        TuringMachineStoredProgram.of(Path.of("/turing-machine-sum-three-strings.yaml")),
+        TuringMachineStoredProgram.of(Path.of("/turing-machine-two-s-complement.yaml")),
+        TuringMachineStoredProgram.of(Path.of("/turing-machine-copy-input-ten-strings.yaml"))
+    );
+
+    private static final String NAME = "name";
+    private static final YAMLFactory yamlFactory = new YAMLFactory();
+    private static final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+    private final Path turingMachineCodePath;
+    private CompletableFuture<LoadedProgram> loadedProgram;
+
+    public record LoadedProgram(TuringMachine turingMachine, String turingMachineCode) {}
+
+    private TuringMachineStoredProgram(final String name, final Path turingMachineCodePath) {
+        this.name = name;
+        this.turingMachineCodePath = turingMachineCodePath;
+    }
+
+    public static TuringMachineStoredProgram of(final Path turingMachineProgramPath) {
+        final String name = readName(turingMachineProgramPath).orElse(turingMachineProgramPath.getFileName().toString());
+        return new TuringMachineStoredProgram(name, turingMachineProgramPath);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Path turingMachineCodePath() {
+        return turingMachineCodePath;
+    }
+
+    public synchronized CompletableFuture<LoadedProgram> load() {
+        if (loadedProgram == null || loadedProgram.isCompletedExceptionally()) {
+            loadedProgram = CompletableFuture.supplyAsync(this::parse, loader);
+        }
+        return loadedProgram;
+    }
+
+    private LoadedProgram parse() {
+        final String turingMachineProgram = TuringMachineApplication.readResourceAsString(turingMachineCodePath.toString());
+        final TuringMachineParserYaml turingMachineParserYaml = new TuringMachineParserYaml();
+        try {
+            return new LoadedProgram(turingMachineParserYaml.parse(turingMachineProgram), turingMachineProgram);
+        } catch (JsonProcessingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // Streams the program up to its top-level name, skipping the other fields without building them
+    private static Optional<String> readName(final Path turingMachineProgramPath) {
+        final InputStream resourceAsStream = TuringMachineApplication.getResourceAsInputStream(turingMachineProgramPath.toString());
+        if (resourceAsStream == null) return Optional.empty();
+
+        try (final JsonParser parser = yamlFactory.createParser(resourceAsStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return Optional.empty();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (NAME.equals(fieldName)) {
+                    return value.isScalarValue()
+                        ? Optional.ofNullable(parser.getValueAsString()).filter(name -> !name.isBlank())
+                        : Optional.empty();
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        } catch (JsonProcessingException e) {
+            // The program is reported as malformed when it is loaded
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
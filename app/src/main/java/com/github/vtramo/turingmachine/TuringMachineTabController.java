@@ -1,8 +1,10 @@
 package com.github.vtramo.turingmachine;
 
+import com.github.vtramo.turingmachine.TuringMachineStoredProgram.LoadedProgram;
 import com.github.vtramo.turingmachine.engine.*;
 import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
 import com.github.vtramo.turingmachine.ui.*;
+import com.github.vtramo.turingmachine.ui.dialogs.TuringMachineDialogUtils;
 import com.github.vtramo.turingmachine.ui.dialogs.TuringMachineHaltedDialogBuilder;
 import com.github.vtramo.turingmachine.ui.dialogs.TuringMachineHaltedStateDialog;
 import com.github.vtramo.turingmachine.ui.dialogs.TuringMachineImportDialog;
@@ -97,7 +99,7 @@ public class TuringMachineTabController {
     private TuringMachine turingMachine;
     private TuringMachine.Computation computation;
     private TuringMachineArchiver turingMachineArchiver;
-    private ObservableList<Configuration> observableConfigurations;
+    private ConfigurationHistory configurationHistory;
     private boolean isPlaying;
     private boolean stepInProgress;
     private double speedDelayMs = 500D;
@@ -288,8 +290,8 @@ public class TuringMachineTabController {
 
         createTapes();
 
-        observableConfigurations = FXCollections.observableArrayList(computation.getConfigurations());
-        configurationsListView.setItems(observableConfigurations);
+        configurationHistory = new ConfigurationHistory(computation);
+        configurationsListView.setItems(configurationHistory);
 
         setStepsTextLabel(0);
         setSpaceTextLabel(computation.getSpace());
@@ -328,20 +330,40 @@ public class TuringMachineTabController {
         final TuringMachineStoredProgram turingMachineStoredProgram = turingMachineExamplesFilterCombo.getSelectedItem();
         if (turingMachineStoredProgram == null) return;
         turingMachineExamplesFilterCombo.clearSelection();
+        // The program is parsed in the background while the user answers the dialog
+        final CompletableFuture<LoadedProgram> loadedProgram = turingMachineStoredProgram.load();
         final TuringMachineImportDialog turingMachineImportDialog = new TuringMachineImportDialog(primaryStage, masterAnchorPane);
         final String turingMachineName = turingMachineStoredProgram.name();
         final OpenNewWindowDialogResult openNewWindowDialogResult = turingMachineImportDialog.askToOpenNewWindow(turingMachineName);
 
-        switch (openNewWindowDialogResult) {
-            case NEW_WINDOW ->
+        final CompletableFuture<Void> openedProgram = switch (openNewWindowDialogResult) {
+            case NEW_WINDOW -> loadedProgram.thenAcceptAsync(program ->
                 homeController.createTuringMachineTab(
                     turingMachineName,
-                    turingMachineStoredProgram.turingMachineCode(),
+                    program.turingMachineCode(),
                     turingMachineStoredProgram.turingMachineCodePath()
-                );
-            case THIS_WINDOW -> changeTuringMachineOnThisTab(turingMachineStoredProgram);
-            case CANCEL -> {}
-        }
+                ), Platform::runLater);
+            case THIS_WINDOW -> loadedProgram.thenAcceptAsync(program ->
+                changeTuringMachineOnThisTab(
+                    program.turingMachine(),
+                    program.turingMachineCode(),
+                    turingMachineStoredProgram.turingMachineCodePath()
+                ), Platform::runLater);
+            case CANCEL -> CompletableFuture.completedFuture(null);
+        };
+        openedProgram.exceptionallyAsync(__ -> {
+            showExampleNotLoadedDialog(turingMachineName);
+            return null;
+        }, Platform::runLater);
+    }
+
+    private void showExampleNotLoadedDialog(final String turingMachineName) {
+        TuringMachineDialogUtils.showErrorDialog(
+            primaryStage,
+            masterAnchorPane,
+            "Example not loaded",
+            "The example " + turingMachineName + " could not be loaded."
+        );
     }
 
     private void configureTuringMachineArchiver() {
@@ -380,14 +402,6 @@ public class TuringMachineTabController {
         changeTuringMachineOnThisTab(importedTuringMachine, importedYamlProgram, turingMachineCodePath);
     }
 
-    private void changeTuringMachineOnThisTab(TuringMachineStoredProgram turingMachineStoredProgram) {
-        final TuringMachine turingMachine = turingMachineStoredProgram.turingMachine();
-        final String turingMachineCode = turingMachineStoredProgram.turingMachineCode();
-        final Path turingMachineCodePath = turingMachineStoredProgram.turingMachineCodePath();
-
-        changeTuringMachineOnThisTab(turingMachine, turingMachineCode, turingMachineCodePath);
-    }
-
     private void changeTuringMachineOnThisTab(
         final TuringMachine turingMachine,
         final String turingMachineCode,
@@ -458,8 +472,8 @@ public class TuringMachineTabController {
     private void showMachineHaltedDialog() {
         if (!computation.isHalted()) throw new RuntimeException();
 
-        final int steps = computation.getSteps();
-        final int space = computation.getSpace();
+        final long steps = computation.getSteps();
+        final long space = computation.getSpace();
 
         final TerminalState terminalState = determineTerminalState();
         final TuringMachineHaltedDialogBuilder turingMachineHaltedDialogBuilder =
@@ -498,9 +512,8 @@ public class TuringMachineTabController {
         if (!isPlaying) {
             stepBackButton.setDisable(false);
         }
-        computation.step();
-        final List<Configuration> configurations = computation.getConfigurations();
-        observableConfigurations.addFirst(configurations.getLast());
+        computation.advance();
+        configurationHistory.stepped();
         setStepsTextLabel(computation.getSteps());
         setSpaceTextLabel(computation.getSpace());
         setStateTextLabel(computation.getCurrentState());
@@ -509,8 +522,9 @@ public class TuringMachineTabController {
     }
 
     private CompletableFuture<Void> stepBack() {
+        final Configuration leftConfiguration = computation.getCurrentConfiguration();
         final Configuration previousConfiguration = computation.stepBack();
-        observableConfigurations.removeFirst();
+        configurationHistory.steppedBack(leftConfiguration);
         stepButton.setDisable(false);
         playButton.setDisable(false);
         setStepsTextLabel(computation.getSteps());
@@ -525,11 +539,11 @@ public class TuringMachineTabController {
         stateLabelValue.setText(state);
     }
 
-    private void setStepsTextLabel(final int steps) {
+    private void setStepsTextLabel(final long steps) {
         stepsLabelValue.setText(String.valueOf(steps));
     }
 
-    private void setSpaceTextLabel(final int space) {
+    private void setSpaceTextLabel(final long space) {
         spaceLabelValue.setText(String.valueOf(space));
     }
 
@@ -543,9 +557,9 @@ public class TuringMachineTabController {
         tapesVBox.getChildren().clear();
         createTapes();
         computation = turingMachine.startComputation(input);
-        observableConfigurations = FXCollections.observableArrayList(computation.getConfigurations());
+        configurationHistory = new ConfigurationHistory(computation);
         configurationsListView.restoreToOriginalWidth();
-        configurationsListView.setItems(observableConfigurations);
+        configurationsListView.setItems(configurationHistory);
         setStateTextLabel(turingMachine.getInitialState());
         setStepsTextLabel(0);
         setSpaceTextLabel(computation.getSpace());
@@ -1,6 +1,6 @@
 package com.github.vtramo.turingmachine.ui;
 
-import com.github.vtramo.turingmachine.parser.TuringMachineValidatorYaml;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
 import com.github.vtramo.turingmachine.parser.ValidationMessage;
 import com.github.vtramo.turingmachine.parser.ValidationResult;
 import javafx.application.Platform;
@@ -175,8 +175,8 @@ public class CodeAreaYaml extends VirtualizedScrollPane<CodeArea> {
     }
 
     private void computeValidation(final String text) {
-        final TuringMachineValidatorYaml turingMachineValidatorYaml = new TuringMachineValidatorYaml();
-        final ValidationResult validationResult = turingMachineValidatorYaml.validate(text);
+        final TuringMachineParserYaml turingMachineParserYaml = new TuringMachineParserYaml();
+        final ValidationResult validationResult = turingMachineParserYaml.compile(text).validationResult();
 
         if (validationResult.containsErrors()) {
             final List<ValidationMessage> validationMessages = validationResult.validationMessages();
@@ -0,0 +1,40 @@
+package com.github.vtramo.turingmachine.ui;
+
+import com.github.vtramo.turingmachine.engine.Configuration;
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+import javafx.collections.ObservableListBase;
+
+import java.util.List;
+
+// The configurations reached by a computation, the latest first. Nothing is stored per step: the
+// list reads the journal of the computation, and a configuration is rebuilt from the nearest
+// checkpoint only when a cell shows it.
+public class ConfigurationHistory extends ObservableListBase<Configuration> {
+    private final List<Configuration> configurations;
+
+    public ConfigurationHistory(final TuringMachine.Computation computation) {
+        this.configurations = computation.getConfigurations();
+    }
+
+    @Override
+    public Configuration get(final int index) {
+        return configurations.get(configurations.size() - 1 - index);
+    }
+
+    @Override
+    public int size() {
+        return configurations.size();
+    }
+
+    public void stepped() {
+        beginChange();
+        nextAdd(0, 1);
+        endChange();
+    }
+
+    public void steppedBack(final Configuration leftConfiguration) {
+        beginChange();
+        nextRemove(0, leftConfiguration);
+        endChange();
+    }
+}
@@ -20,12 +20,21 @@ public class LatexConfigurationImageGenerator {
     private final LatexFormulaPngGenerator latexFormulaPNGGenerator = new LatexFormulaPngGenerator();
 
     public Image generateLatexImage(final Configuration configuration) {
+        final LatexRenderEvent latexRenderEvent = new LatexRenderEvent();
+        latexRenderEvent.begin();
         final String latexFormula = buildLatexFormula(configuration);
         final Path latexFormulaPngPath = latexFormulaPNGGenerator.generate(latexFormula, 22);
         try {
             return new Image(new FileInputStream(latexFormulaPngPath.toFile()));
         } catch (FileNotFoundException e) {
             throw new RuntimeException(e);
+        } finally {
+            latexRenderEvent.end();
+            if (latexRenderEvent.shouldCommit()) {
+                latexRenderEvent.formulaLength = latexFormula.length();
+                latexRenderEvent.space = configuration.getSpace();
+                latexRenderEvent.commit();
+            }
         }
     }
 
@@ -0,0 +1,18 @@
+package com.github.vtramo.turingmachine.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.vtramo.turingmachine.LatexRender")
+@Label("LaTeX Render")
+@Category({ "Turing Machine", "Renderer" })
+@StackTrace(false)
+final class LatexRenderEvent extends Event {
+    @Label("Formula Length")
+    int formulaLength;
+    @Label("Space")
+    int space;
+}
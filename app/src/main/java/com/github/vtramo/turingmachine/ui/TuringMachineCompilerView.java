@@ -1,10 +1,9 @@
 package com.github.vtramo.turingmachine.ui;
 
 import com.github.vtramo.turingmachine.engine.TuringMachine;
+import com.github.vtramo.turingmachine.parser.CompilationResult;
 import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
-import com.github.vtramo.turingmachine.parser.TuringMachineValidatorYaml;
 import com.github.vtramo.turingmachine.parser.ValidationMessage;
-import com.github.vtramo.turingmachine.parser.ValidationResult;
 import io.github.palexdev.materialfx.controls.MFXButton;
 import io.github.palexdev.materialfx.controls.MFXScrollPane;
 import javafx.collections.ObservableList;
@@ -20,7 +19,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import lombok.Setter;
-import lombok.SneakyThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,7 +34,6 @@ public class TuringMachineCompilerView extends GridPane {
     private final List<Runnable> onErrorListeners = new ArrayList<>();
     private final List<Consumer<TuringMachine>> onSuccessListeners = new ArrayList<>();
     private final TuringMachineParserYaml turingMachineParserYaml = new TuringMachineParserYaml();
-    private final TuringMachineValidatorYaml turingMachineValidatorYaml = new TuringMachineValidatorYaml();
     private final ObservableList<Node> gridPaneChildren = getChildren();
     private MFXScrollPane scrollPane;
     private MFXButton compileButton;
@@ -102,7 +99,6 @@ public class TuringMachineCompilerView extends GridPane {
         onErrorListeners.add(runnable);
     }
 
-    @SneakyThrows
     private void compile(final String code) {
         clearLogs();
 
@@ -111,13 +107,13 @@ public class TuringMachineCompilerView extends GridPane {
         textFlow.setMaxWidth(getWidth());
         final ObservableList<Node> logs = textFlow.getChildren();
 
-        final ValidationResult validationResult = turingMachineValidatorYaml.validate(code);
-        if (validationResult.containsErrors()) {
-            final List<Text> errorLogs = buildErrorLogs(validationResult.validationMessages());
+        final CompilationResult compilationResult = turingMachineParserYaml.compile(code);
+        if (compilationResult.containsErrors()) {
+            final List<Text> errorLogs = buildErrorLogs(compilationResult.validationMessages());
             logs.addAll(errorLogs);
             onErrorListeners.forEach(Runnable::run);
         } else {
-            final TuringMachine turingMachine = turingMachineParserYaml.parse(code);
+            final TuringMachine turingMachine = compilationResult.turingMachine();
             final Text successLog = buildSuccessfulCompilationLog(turingMachine);
             logs.add(successLog);
             onSuccessListeners.forEach(mdtConsumer -> mdtConsumer.accept(turingMachine));
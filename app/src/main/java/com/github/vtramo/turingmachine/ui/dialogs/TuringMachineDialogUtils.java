@@ -1,14 +1,18 @@
 package com.github.vtramo.turingmachine.ui.dialogs;
 
+import io.github.palexdev.materialfx.controls.MFXButton;
 import io.github.palexdev.materialfx.dialogs.MFXGenericDialog;
 import io.github.palexdev.materialfx.dialogs.MFXGenericDialogBuilder;
 import io.github.palexdev.materialfx.dialogs.MFXStageDialog;
 import io.github.palexdev.materialfx.enums.ScrimPriority;
+import io.github.palexdev.mfxresources.fonts.MFXFontIcon;
 import javafx.scene.layout.Pane;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Pair;
 
+import java.util.Map;
+
 public class TuringMachineDialogUtils {
     public static Pair<MFXStageDialog, MFXGenericDialog> buildMFXDialog(final Stage stage, final Pane ownerPaneForDialogs) {
         final MFXGenericDialog dialogContent = MFXGenericDialogBuilder.build()
@@ -30,4 +34,22 @@ public class TuringMachineDialogUtils {
 
         return new Pair<>(dialog, dialogContent);
     }
+
+    public static void showErrorDialog(
+        final Stage stage,
+        final Pane ownerPaneForDialogs,
+        final String headerText,
+        final String contentText
+    ) {
+        final Pair<MFXStageDialog, MFXGenericDialog> mfxStageDialogMFXGenericDialogPair = buildMFXDialog(stage, ownerPaneForDialogs);
+        final MFXStageDialog dialog = mfxStageDialogMFXGenericDialogPair.getKey();
+        final MFXGenericDialog dialogContent = mfxStageDialogMFXGenericDialogPair.getValue();
+        dialogContent.setContentText(contentText);
+        dialogContent.addActions(Map.entry(new MFXButton("OK"), ___ -> dialog.close()));
+        final MFXFontIcon errorIcon = new MFXFontIcon("fas-circle-xmark", 18);
+        dialogContent.setHeaderIcon(errorIcon);
+        dialogContent.setHeaderText(headerText);
+        dialogContent.getStyleClass().add("mfx-error-dialog");
+        dialog.show();
+    }
 }
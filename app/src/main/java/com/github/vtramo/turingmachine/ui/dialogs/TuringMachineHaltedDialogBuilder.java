@@ -10,8 +10,8 @@ public class TuringMachineHaltedDialogBuilder {
     private Pane ownerNode;
     private String input;
     private String output;
-    private int totalSteps;
-    private int totalSpace;
+    private long totalSteps;
+    private long totalSpace;
 
     public TuringMachineHaltedDialogBuilder withTerminalState(TerminalState terminalState) {
         this.terminalState = terminalState;
@@ -38,12 +38,12 @@ public class TuringMachineHaltedDialogBuilder {
         return this;
     }
 
-    public TuringMachineHaltedDialogBuilder withTotalSteps(int totalSteps) {
+    public TuringMachineHaltedDialogBuilder withTotalSteps(long totalSteps) {
         this.totalSteps = totalSteps;
         return this;
     }
 
-    public TuringMachineHaltedDialogBuilder withTotalSpace(int totalSpace) {
+    public TuringMachineHaltedDialogBuilder withTotalSpace(long totalSpace) {
         this.totalSpace = totalSpace;
         return this;
     }
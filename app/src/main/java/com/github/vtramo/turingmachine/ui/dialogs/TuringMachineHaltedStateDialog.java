@@ -71,8 +71,8 @@ public class TuringMachineHaltedStateDialog {
         final Pane ownerNode,
         final String input,
         final String output,
-        final int steps,
-        final int space
+        final long steps,
+        final long space
     ) {
         this(terminalState, owner, ownerNode, input, steps, space);
         this.output = output;
@@ -84,8 +84,8 @@ public class TuringMachineHaltedStateDialog {
         final Stage owner,
         final Pane ownerNode,
         final String input,
-        final int steps,
-        final int space
+        final long steps,
+        final long space
     ) {
         this.terminalState = terminalState;
         this.input = input;
@@ -160,11 +160,11 @@ public class TuringMachineHaltedStateDialog {
         textFlowChildren.add(lastNode);
     }
 
-    private void setStepsLabelValue(int steps) {
+    private void setStepsLabelValue(long steps) {
         stepsLabel.setText(stepsLabel.getText() + steps);
     }
 
-    private void setSpaceLabelValue(int space) {
+    private void setSpaceLabelValue(long space) {
         spaceLabel.setText(spaceLabel.getText() + space);
     }
 
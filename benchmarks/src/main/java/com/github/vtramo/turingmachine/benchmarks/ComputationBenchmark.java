@@ -0,0 +1,96 @@
+package com.github.vtramo.turingmachine.benchmarks;
+
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComputationBenchmark {
+
+    public enum BundledProgram {
+        PALINDROME("/turing-machine-palindrome-two-strings.yaml"),
+        BINARY_SUM("/turing-machine-sum-three-strings.yaml"),
+        TWO_S_COMPLEMENT("/turing-machine-two-s-complement.yaml"),
+        COPY("/turing-machine-copy-input-ten-strings.yaml");
+
+        private final String resource;
+
+        BundledProgram(final String resource) {
+            this.resource = resource;
+        }
+
+        String input(final int size, final Random random) {
+            final StringBuilder input = new StringBuilder(size);
+            for (int i = 0; i < size; i++) input.append(random.nextBoolean() ? '1' : '0');
+            return switch (this) {
+                case PALINDROME -> input.append(new StringBuilder(input).reverse()).toString();
+                case BINARY_SUM -> input.substring(0, size / 2) + ";" + input.substring(size / 2);
+                case TWO_S_COMPLEMENT, COPY -> input.toString();
+            };
+        }
+    }
+
+    @Param({ "PALINDROME", "BINARY_SUM", "TWO_S_COMPLEMENT", "COPY" })
+    BundledProgram program;
+
+    @Param({ "16", "256", "4096" })
+    int inputSize;
+
+    TuringMachine turingMachine;
+    String input;
+
+    @State(Scope.Thread)
+    public static class Backend {
+        @Param({ "INTERPRETER", "BYTECODE" })
+        ExecutionBackend executionBackend;
+
+        ComputationOptions options;
+
+        @Setup
+        public void setUp() {
+            options = ComputationOptions.builder().executionBackend(executionBackend).build();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        try (final InputStream inputStream = TuringMachine.class.getResourceAsStream(program.resource)) {
+            turingMachine = new TuringMachineParserYaml().parse(new String(inputStream.readAllBytes()));
+        }
+        input = program.input(inputSize, new Random(inputSize));
+    }
+
+    @Benchmark
+    public Configuration step() {
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        Configuration configuration = computation.getCurrentConfiguration();
+        while (computation.hasNextConfiguration()) {
+            configuration = computation.step();
+        }
+        return configuration;
+    }
+
+    @Benchmark
+    public Configuration advance() {
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        while (computation.hasNextConfiguration()) {
+            computation.advance();
+        }
+        return computation.getCurrentConfiguration();
+    }
+
+    @Benchmark
+    public ComputationResult runToHalt(final Backend backend) {
+        return turingMachine.startComputation(input, backend.options).runToHalt(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.vtramo.turingmachine.benchmarks;
+
+import com.github.vtramo.turingmachine.engine.DeltaProgram;
+import com.github.vtramo.turingmachine.engine.Instruction;
+import com.github.vtramo.turingmachine.engine.StateAndSymbols;
+import com.github.vtramo.turingmachine.engine.Transition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeltaProgramBenchmark {
+    private static final String SYMBOLS = "01xy";
+
+    DeltaProgram deltaProgram;
+    StateAndSymbols exactHit;
+    StateAndSymbols wildcardHit;
+
+    @Setup
+    public void setUp() {
+        deltaProgram = new DeltaProgram(3);
+        for (int state = 0; state < 16; state++) {
+            for (final char first: SYMBOLS.toCharArray()) {
+                for (final char second: SYMBOLS.toCharArray()) {
+                    deltaProgram.addInstruction(Instruction.of(
+                        "q" + state + ", " + first + ", " + second + ", _",
+                        "q" + (state + 1) + ", " + second + ", ->, " + first + ", ->, 1, -"));
+                }
+            }
+            deltaProgram.addInstruction(Instruction.of("q" + state + ", *, 1, *", "q" + state + ", *, ->, *, <-, *, -"));
+        }
+        exactHit = StateAndSymbols.of("q7", 'x', 'y', '_');
+        wildcardHit = StateAndSymbols.of("q7", '_', '1', 'x');
+    }
+
+    @Benchmark
+    public Transition applyExact() {
+        return deltaProgram.apply(exactHit);
+    }
+
+    @Benchmark
+    public Transition applyWildcard() {
+        return deltaProgram.apply(wildcardHit);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.vtramo.turingmachine.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a generated two-tape program. Besides the programs per second, the {@code transitions} counter reports the
+ * parse throughput in transitions per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    private static final String SYMBOLS = "01xy";
+
+    @Param({"1000", "10000", "50000"})
+    int transitions;
+
+    String program;
+    int programTransitions;
+    TuringMachineParserYaml parser;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ParsedTransitions {
+        public long transitions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            transitions = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        final int transitionsPerState = SYMBOLS.length() * SYMBOLS.length();
+        final int states = Math.max(1, transitions / transitionsPerState);
+        final StringBuilder builder = new StringBuilder("""
+            name: Generated
+            description: A generated program
+            tapes: 2
+            initial_state: q0
+            transitions:
+            """);
+        for (int state = 0; state < states; state++) {
+            builder.append("  q").append(state).append(":\n");
+            for (final char first: SYMBOLS.toCharArray()) {
+                for (final char second: SYMBOLS.toCharArray()) {
+                    builder.append("    '").append(first).append(',').append(second).append("':\n")
+                        .append("      next_state: q").append(state + 1).append('\n')
+                        .append("      write: '").append(second).append(',').append(first).append("'\n")
+                        .append("      move: '->,<-'\n");
+                }
+            }
+        }
+        programTransitions = states * transitionsPerState;
+        program = builder.toString();
+        parser = new TuringMachineParserYaml();
+    }
+
+    @Benchmark
+    public TuringMachine parse(final ParsedTransitions parsedTransitions) throws JsonProcessingException {
+        final TuringMachine turingMachine = parser.parse(program);
+        parsedTransitions.transitions += programTransitions;
+        return turingMachine;
+    }
+}
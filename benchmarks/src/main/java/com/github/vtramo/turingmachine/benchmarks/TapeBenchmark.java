@@ -0,0 +1,47 @@
+package com.github.vtramo.turingmachine.benchmarks;
+
+import com.github.vtramo.turingmachine.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TapeBenchmark {
+    private static final Move WRITE_ONE_RIGHT = Move.of('1', Direction.RIGHT);
+    private static final Move WRITE_ZERO_LEFT = Move.of('0', Direction.LEFT);
+
+    @Param({ "16", "1024", "65536" })
+    int tapeLength;
+
+    @Param({ "ARRAY", "RUN_LENGTH", "PACKED" })
+    TapeRepresentation tapeRepresentation;
+
+    Tape tape;
+    TapeBuffer tapeBuffer;
+
+    @Setup
+    public void setUp() {
+        final char[] string = new char[tapeLength];
+        string[0] = Symbol.START.getSymbol();
+        for (int i = 1; i < tapeLength; i++) string[i] = i % 3 == 0 ? '1' : '0';
+        tape = Tape.of(string, tapeLength / 2);
+        tapeBuffer = TapeBuffer.of(tape, tapeRepresentation);
+    }
+
+    @Benchmark
+    public Tape tapeMove() {
+        return tape.move(WRITE_ONE_RIGHT).move(WRITE_ZERO_LEFT);
+    }
+
+    @Benchmark
+    public char tapeBufferMove() {
+        tapeBuffer.move(WRITE_ONE_RIGHT);
+        tapeBuffer.move(WRITE_ZERO_LEFT);
+        return tapeBuffer.getCurrentSymbol();
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.vtramo.turingmachine.cli;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.vtramo.turingmachine.engine.BatchResult;
+import com.github.vtramo.turingmachine.engine.ComputationResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+public enum OutputFormat {
+    CSV {
+        @Override
+        ResultWriter newWriter(final Writer writer) {
+            return new CsvResultWriter(writer);
+        }
+    },
+    JSONL {
+        @Override
+        ResultWriter newWriter(final Writer writer) {
+            return new JsonLinesResultWriter(writer);
+        }
+    };
+
+    abstract ResultWriter newWriter(Writer writer);
+
+    interface ResultWriter {
+        void write(BatchResult result);
+
+        void flush();
+    }
+
+    private static final class CsvResultWriter implements ResultWriter {
+        private final Writer writer;
+
+        CsvResultWriter(final Writer writer) {
+            this.writer = writer;
+            writeLine("index", "input", "outcome", "output", "steps", "space", "elapsed_nanos", "error");
+        }
+
+        @Override
+        public void write(final BatchResult batchResult) {
+            final ComputationResult result = batchResult.result();
+            writeLine(
+                String.valueOf(batchResult.index()),
+                batchResult.input(),
+                batchResult.isFailed() ? "FAILED" : result.outcome().name(),
+                batchResult.isFailed() || result.output() == null ? "" : result.output(),
+                batchResult.isFailed() ? "" : String.valueOf(result.steps()),
+                batchResult.isFailed() ? "" : String.valueOf(result.space()),
+                String.valueOf(batchResult.elapsedNanos()),
+                batchResult.isFailed() ? errorMessage(batchResult.error()) : "");
+        }
+
+        private void writeLine(final String... fields) {
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    if (i > 0) writer.write(',');
+                    writer.write(quote(fields[i]));
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String quote(final String field) {
+            if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+                return field;
+            }
+            return '"' + field.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class JsonLinesResultWriter implements ResultWriter {
+        private final JsonGenerator generator;
+
+        JsonLinesResultWriter(final Writer writer) {
+            try {
+                this.generator = new JsonFactory().createGenerator(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(final BatchResult batchResult) {
+            final ComputationResult result = batchResult.result();
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("index", batchResult.index());
+                generator.writeStringField("input", batchResult.input());
+                if (batchResult.isFailed()) {
+                    generator.writeStringField("outcome", "FAILED");
+                    generator.writeStringField("error", errorMessage(batchResult.error()));
+                } else {
+                    generator.writeStringField("outcome", result.outcome().name());
+                    generator.writeStringField("state", result.state());
+                    if (result.output() != null) generator.writeStringField("output", result.output());
+                    generator.writeNumberField("steps", result.steps());
+                    generator.writeNumberField("space", result.space());
+                }
+                generator.writeNumberField("elapsedNanos", batchResult.elapsedNanos());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static String errorMessage(final RuntimeException error) {
+        return error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+    }
+}
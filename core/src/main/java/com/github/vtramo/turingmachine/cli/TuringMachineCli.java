@@ -0,0 +1,166 @@
+package com.github.vtramo.turingmachine.cli;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs a Turing machine without the graphical interface: every line of the input file (or of the standard
+ * input) is an input of the machine, and one result per line is streamed to the standard output, in the
+ * order of the inputs. Only the engine and the YAML parser are loaded, never JavaFX.
+ */
+public final class TuringMachineCli {
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_ERROR = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = """
+        Usage: turing-machine-cli <program.yaml> [options]
+          --input <file>          read the inputs from a file instead of the standard input
+          --format <csv|jsonl>    the format of the results (default: csv)
+          --max-steps <n>         stop every computation after n steps
+          --timeout-ms <n>        stop every computation after n milliseconds
+          --parallelism <n>       the number of computations run in parallel (default: available processors)
+          --backend <interpreter|bytecode>
+                                  the execution backend (default: interpreter)
+        """;
+
+    private TuringMachineCli() {}
+
+    public static void main(final String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    public static int run(final String[] args, final InputStream in, final PrintStream out, final PrintStream err) {
+        final Arguments arguments;
+        try {
+            arguments = Arguments.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println("error: " + e.getMessage());
+            err.print(USAGE);
+            return EXIT_USAGE;
+        }
+
+        final TuringMachine turingMachine;
+        try {
+            turingMachine = new TuringMachineParserYaml().parse(Files.readString(arguments.program()));
+        } catch (JsonProcessingException e) {
+            err.println("error: " + arguments.program() + " is not a valid program: " + e.getOriginalMessage());
+            return EXIT_ERROR;
+        } catch (IOException e) {
+            err.println("error: cannot read " + arguments.program() + ": " + e.getMessage());
+            return EXIT_ERROR;
+        } catch (RuntimeException e) {
+            err.println("error: " + arguments.program() + " is not a valid program: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        final OutputFormat.ResultWriter resultWriter = arguments.format().newWriter(writer);
+        final BatchRunner batchRunner = new BatchRunner(turingMachine, arguments.options(), arguments.limits(), arguments.parallelism());
+        try (final BufferedReader reader = arguments.input() == null
+                ? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(arguments.input());
+             final Stream<String> inputs = reader.lines()) {
+            batchRunner.run(inputs, new InputOrder(resultWriter));
+            resultWriter.flush();
+        } catch (IOException | UncheckedIOException e) {
+            err.println("error: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    // Results complete in any order: each one is held back until all the results before it have been written.
+    private static final class InputOrder implements Consumer<BatchResult> {
+        private final OutputFormat.ResultWriter resultWriter;
+        private final Map<Long, BatchResult> pending = new HashMap<>();
+        private long next;
+
+        InputOrder(final OutputFormat.ResultWriter resultWriter) {
+            this.resultWriter = resultWriter;
+        }
+
+        @Override
+        public void accept(final BatchResult result) {
+            pending.put(result.index(), result);
+            BatchResult nextResult;
+            while ((nextResult = pending.remove(next)) != null) {
+                resultWriter.write(nextResult);
+                next++;
+            }
+            resultWriter.flush();
+        }
+    }
+
+    record Arguments(
+        Path program,
+        Path input,
+        OutputFormat format,
+        ComputationLimits limits,
+        int parallelism,
+        ComputationOptions options
+    ) {
+        static Arguments parse(final String[] args) {
+            Path program = null;
+            Path input = null;
+            OutputFormat format = OutputFormat.CSV;
+            ComputationLimits limits = ComputationLimits.unlimited();
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            ExecutionBackend executionBackend = ExecutionBackend.INTERPRETER;
+
+            for (int i = 0; i < args.length; i++) {
+                final String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    if (program != null) throw new IllegalArgumentException("Unexpected argument " + arg);
+                    program = Path.of(arg);
+                    continue;
+                }
+                if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + arg);
+                final String value = args[++i];
+                switch (arg) {
+                    case "--input" -> input = value.equals("-") ? null : Path.of(value);
+                    case "--format" -> format = parseEnum(OutputFormat.class, arg, value);
+                    case "--max-steps" -> limits = limits.withMaxSteps(parseLong(arg, value));
+                    case "--timeout-ms" -> limits = limits.withTimeout(Duration.ofMillis(parseLong(arg, value)));
+                    case "--parallelism" -> parallelism = Math.toIntExact(parseLong(arg, value));
+                    case "--backend" -> executionBackend = parseEnum(ExecutionBackend.class, arg, value);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            if (program == null) throw new IllegalArgumentException("Missing program");
+            if (parallelism <= 0) throw new IllegalArgumentException("The parallelism must be greater than zero");
+
+            final ComputationOptions options = ComputationOptions.builder().executionBackend(executionBackend).build();
+            return new Arguments(program, input, format, limits, parallelism, options);
+        }
+
+        private static long parseLong(final String option, final String value) {
+            try {
+                final long number = Long.parseLong(value);
+                if (number < 0) throw new IllegalArgumentException("Invalid value " + value + " for " + option);
+                return number;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value " + value + " for " + option);
+            }
+        }
+
+        private static <E extends Enum<E>> E parseEnum(final Class<E> type, final String option, final String value) {
+            try {
+                return Enum.valueOf(type, value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value " + value + " for " + option);
+            }
+        }
+    }
+}
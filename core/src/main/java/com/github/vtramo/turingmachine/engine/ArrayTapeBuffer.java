@@ -0,0 +1,63 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+final class ArrayTapeBuffer extends TapeBuffer {
+    private static final int MIN_CAPACITY = 16;
+
+    char[] cells;
+    int length;
+    int head;
+
+    ArrayTapeBuffer(final char[] string, final int head) {
+        Tape.checkString(string, head);
+        this.cells = Arrays.copyOf(string, Math.max(MIN_CAPACITY, string.length));
+        this.length = string.length;
+        this.head = head;
+    }
+
+    @Override
+    public char getCurrentSymbol() {
+        return cells[head];
+    }
+
+    @Override
+    char getSymbol(final long position) {
+        return cells[(int) position];
+    }
+
+    @Override
+    void move(final char symbol, final Direction direction) {
+        cells[head] = symbol;
+        head += direction.getValue();
+        if (head == length) {
+            if (length == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length << 1);
+            }
+            cells[length++] = Symbol.BLANK.getSymbol();
+        }
+    }
+
+    @Override
+    void undo(final char overwrittenSymbol, final long headDelta, final boolean grew) {
+        if (grew) length--;
+        head -= headDelta;
+        cells[head] = overwrittenSymbol;
+    }
+
+    @Override
+    public long getHead() { return head; }
+
+    @Override
+    public long getSpace() { return length; }
+
+    @Override
+    public String getString() {
+        return String.valueOf(cells, 0, length);
+    }
+
+    @Override
+    public Tape snapshot() {
+        return Tape.of(Arrays.copyOf(cells, length), head);
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.vtramo.turingmachine.engine;
+
+public record BatchResult(long index, String input, ComputationResult result, RuntimeException error, long elapsedNanos) {
+    public boolean isFailed() {
+        return error != null;
+    }
+}
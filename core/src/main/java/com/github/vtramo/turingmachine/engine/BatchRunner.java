@@ -0,0 +1,121 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same Turing machine to halt over many inputs in parallel. Every worker shares the compiled
+ * program of the machine and owns its tapes, results are delivered one at a time as soon as they complete.
+ */
+public final class BatchRunner {
+    private final TuringMachine turingMachine;
+    private final ComputationOptions options;
+    private final ComputationLimits limits;
+    private final int parallelism;
+
+    public BatchRunner(final TuringMachine turingMachine, final ComputationLimits limits) {
+        this(turingMachine, ComputationOptions.defaults(), limits, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(final TuringMachine turingMachine, final ComputationOptions options, final ComputationLimits limits, final int parallelism) {
+        Objects.requireNonNull(turingMachine);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(limits);
+        if (parallelism <= 0) throw new IllegalArgumentException("The parallelism must be greater than zero!");
+        this.turingMachine = turingMachine;
+        this.options = options;
+        this.limits = limits;
+        this.parallelism = parallelism;
+    }
+
+    public List<BatchResult> run(final Collection<String> inputs) {
+        final BatchResult[] results = new BatchResult[inputs.size()];
+        run(inputs.stream(), result -> results[(int) result.index()] = result);
+        return Arrays.asList(results);
+    }
+
+    public BatchStatistics run(final Stream<String> inputs, final Consumer<BatchResult> onResult) {
+        Objects.requireNonNull(inputs);
+        Objects.requireNonNull(onResult);
+        turingMachine.getProgram().compile();
+
+        final Semaphore inFlight = new Semaphore(parallelism * 2);
+        final Statistics statistics = new Statistics();
+        final AtomicReference<RuntimeException> callbackError = new AtomicReference<>();
+        final long startNanos = System.nanoTime();
+        try (final ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().daemon().factory())) {
+            final Iterator<String> iterator = inputs.iterator();
+            for (long index = 0; iterator.hasNext() && callbackError.get() == null; index++) {
+                final long inputIndex = index;
+                final String input = iterator.next();
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        final BatchResult result = evaluate(inputIndex, input);
+                        statistics.add(result);
+                        synchronized (onResult) {
+                            onResult.accept(result);
+                        }
+                    } catch (RuntimeException e) {
+                        callbackError.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        if (callbackError.get() != null) throw callbackError.get();
+        return statistics.toBatchStatistics(System.nanoTime() - startNanos);
+    }
+
+    private BatchResult evaluate(final long index, final String input) {
+        final long startNanos = System.nanoTime();
+        try (final TuringMachine.Computation computation = turingMachine.startComputation(input, options)) {
+            final ComputationResult result = computation.runToHalt(limits);
+            return new BatchResult(index, input, result, null, System.nanoTime() - startNanos);
+        } catch (RuntimeException e) {
+            return new BatchResult(index, input, null, e, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static final class Statistics {
+        private final LongAdder inputs = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder steps = new LongAdder();
+        private final Map<ComputationOutcome, LongAdder> outcomes = new EnumMap<>(ComputationOutcome.class);
+
+        private Statistics() {
+            for (final ComputationOutcome outcome: ComputationOutcome.values()) {
+                outcomes.put(outcome, new LongAdder());
+            }
+        }
+
+        private void add(final BatchResult result) {
+            inputs.increment();
+            if (result.isFailed()) {
+                failures.increment();
+                return;
+            }
+            steps.add(result.result().steps());
+            outcomes.get(result.result().outcome()).increment();
+        }
+
+        private BatchStatistics toBatchStatistics(final long elapsedNanos) {
+            final Map<ComputationOutcome, Long> outcomeCounts = new EnumMap<>(ComputationOutcome.class);
+            outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+            return new BatchStatistics(inputs.sum(), failures.sum(), steps.sum(), elapsedNanos, outcomeCounts);
+        }
+    }
+}
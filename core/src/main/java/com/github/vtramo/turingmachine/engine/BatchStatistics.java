@@ -0,0 +1,17 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Map;
+
+public record BatchStatistics(long inputs, long failures, long steps, long elapsedNanos, Map<ComputationOutcome, Long> outcomes) {
+    public double inputsPerSecond() {
+        return perSecond(inputs);
+    }
+
+    public double stepsPerSecond() {
+        return perSecond(steps);
+    }
+
+    private double perSecond(final long count) {
+        return elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+    }
+}
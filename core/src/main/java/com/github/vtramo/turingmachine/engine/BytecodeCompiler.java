@@ -0,0 +1,346 @@
+package com.github.vtramo.turingmachine.engine;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates a hidden class that runs a compiled delta program on array tapes. Every node of the
+ * transition table becomes a switch on the symbol under one head and every transition a straight-line
+ * block that checks the start symbol, writes the cells, moves the heads and jumps back to the dispatch
+ * on the state. Heads, lengths and cells live in local variables for the whole run and are written back
+ * to the tapes on every way out, including the exceptions raised by a transition.
+ */
+final class BytecodeCompiler {
+    // HotSpot never JIT-compiles a method whose bytecode is longer than this (-XX:HugeMethodLimit)
+    private static final int HUGE_METHOD_LIMIT = 8000;
+    private static final String MACHINE = Type.getInternalName(CompiledMachine.class);
+    private static final String TAPE = Type.getInternalName(ArrayTapeBuffer.class);
+    private static final String GENERATED_MACHINE = MACHINE.substring(0, MACHINE.lastIndexOf('/') + 1) + "GeneratedMachine";
+    private static final char START = Symbol.START.getSymbol();
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+
+    private static final int THIS = 0;
+    private static final int TAPES = 1;
+    private static final int MAX_STEPS = 2;
+    private static final int STATE = 4;
+    private static final int STEPS = 5;
+    private static final int FIRST_TAPE = 7;
+
+    private final CompiledDeltaProgram program;
+    private final int totalTapes;
+    private final Map<Integer, Label> nodeLabels = new HashMap<>();
+    private final Map<Integer, Label> transitionLabels = new HashMap<>();
+    private final Set<Integer> generatedNodes = new HashSet<>();
+    private final Label loop = new Label();
+    private final Label exit = new Label();
+    private final Label reject = new Label();
+    private final Label invalidTransition = new Label();
+    private final Label startSymbolNotFound = new Label();
+    private final Label end = new Label();
+    private MethodVisitor method;
+
+    private BytecodeCompiler(final CompiledDeltaProgram program) {
+        this.program = program;
+        this.totalTapes = program.totalTapes();
+    }
+
+    /**
+     * Returns the constructor of the generated machine, or nothing when its run method would be too large to be
+     * JIT-compiled: interpreted bytecode is slower than the interpreter of the compiled program.
+     */
+    static Optional<MethodHandle> compile(final CompiledDeltaProgram program) {
+        if (estimateCodeSize(program) > 4L * HUGE_METHOD_LIMIT) return Optional.empty();
+        try {
+            final Optional<byte[]> bytecode = new BytecodeCompiler(program).generate();
+            if (bytecode.isEmpty()) return Optional.empty();
+            final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytecode.get(), true);
+            return Optional.of(lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static CompiledMachine instantiate(final MethodHandle constructor) {
+        try {
+            return (CompiledMachine) constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // A rough upper bound, only used to avoid generating programs that are far too large
+    private static long estimateCodeSize(final CompiledDeltaProgram program) {
+        final int tapes = program.totalTapes();
+        final long nodes = program.tableSize() / program.alphabetSize();
+        return nodes * (16 + 8L * program.alphabetSize()) + program.transitionCount() * (24 + 48L * tapes) + 8L * program.stateCount();
+    }
+
+    private Optional<byte[]> generate() {
+        final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(V21, ACC_FINAL | ACC_SUPER, GENERATED_MACHINE, null, MACHINE, null);
+
+        final MethodVisitor constructor = classWriter.visitMethod(0, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, THIS);
+        constructor.visitMethodInsn(INVOKESPECIAL, MACHINE, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        method = classWriter.visitMethod(0, "run", "([L" + Type.getInternalName(TapeBuffer.class) + ";J)V", null, null);
+        method.visitCode();
+        generatePrologue();
+        generateDispatch();
+        for (int state = 0; state < program.stateCount(); state++) {
+            if (!program.isTerminalState(state)) generateNode(program.root(state), 0);
+        }
+        transitionLabels.forEach(this::generateTransition);
+        generateReject();
+        generateFailure(invalidTransition, "invalidTransition");
+        generateFailure(startSymbolNotFound, "startSymbolNotFound");
+        generateEpilogue();
+        method.visitLabel(end);
+        if (end.getOffset() > HUGE_METHOD_LIMIT) return Optional.empty();
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return Optional.of(classWriter.toByteArray());
+    }
+
+    private void generatePrologue() {
+        method.visitVarInsn(ALOAD, THIS);
+        method.visitFieldInsn(GETFIELD, MACHINE, "state", "I");
+        method.visitVarInsn(ISTORE, STATE);
+        method.visitInsn(LCONST_0);
+        method.visitVarInsn(LSTORE, STEPS);
+        for (int i = 0; i < totalTapes; i++) {
+            method.visitVarInsn(ALOAD, TAPES);
+            pushInt(i);
+            method.visitInsn(AALOAD);
+            method.visitTypeInsn(CHECKCAST, TAPE);
+            method.visitInsn(DUP);
+            method.visitVarInsn(ASTORE, buffer(i));
+            method.visitInsn(DUP);
+            method.visitFieldInsn(GETFIELD, TAPE, "cells", "[C");
+            method.visitVarInsn(ASTORE, cells(i));
+            method.visitInsn(DUP);
+            method.visitFieldInsn(GETFIELD, TAPE, "head", "I");
+            method.visitVarInsn(ISTORE, head(i));
+            method.visitFieldInsn(GETFIELD, TAPE, "length", "I");
+            method.visitVarInsn(ISTORE, length(i));
+        }
+    }
+
+    private void generateDispatch() {
+        method.visitLabel(loop);
+        method.visitVarInsn(LLOAD, STEPS);
+        method.visitVarInsn(LLOAD, MAX_STEPS);
+        method.visitInsn(LCMP);
+        method.visitJumpInsn(IFGE, exit);
+
+        final Label[] stateLabels = new Label[program.stateCount()];
+        for (int state = 0; state < stateLabels.length; state++) {
+            stateLabels[state] = program.isTerminalState(state) ? exit : nodeLabel(program.root(state));
+        }
+        method.visitVarInsn(ILOAD, STATE);
+        method.visitTableSwitchInsn(0, stateLabels.length - 1, exit, stateLabels);
+    }
+
+    private void generateNode(final int node, final int depth) {
+        if (!generatedNodes.add(node)) return;
+        final Label label = nodeLabel(node);
+
+        final int alphabetSize = program.alphabetSize();
+        final int[] keys = new int[alphabetSize - 1];
+        final Label[] targets = new Label[alphabetSize - 1];
+        for (int code = 1; code < alphabetSize; code++) {
+            keys[code - 1] = program.symbol(code);
+            targets[code - 1] = target(program.tableEntry(node + code), depth);
+        }
+        final Label otherTarget = target(program.tableEntry(node), depth);
+
+        method.visitLabel(label);
+        method.visitVarInsn(ALOAD, cells(depth));
+        method.visitVarInsn(ILOAD, head(depth));
+        method.visitInsn(CALOAD);
+        method.visitLookupSwitchInsn(otherTarget, keys, targets);
+
+        if (depth + 1 < totalTapes) {
+            for (int code = 0; code < alphabetSize; code++) {
+                generateNode(program.tableEntry(node + code), depth + 1);
+            }
+        }
+    }
+
+    private Label target(final int entry, final int depth) {
+        if (depth + 1 < totalTapes) return nodeLabel(entry);
+        if (entry == CompiledDeltaProgram.REJECT) return reject;
+        return transitionLabels.computeIfAbsent(entry, __ -> new Label());
+    }
+
+    private Label nodeLabel(final int node) {
+        return nodeLabels.computeIfAbsent(node, __ -> new Label());
+    }
+
+    private void generateTransition(final int transition, final Label label) {
+        method.visitLabel(label);
+        for (int i = 0; i < totalTapes; i++) {
+            final int write = program.writeSymbol(transition, i);
+            if (program.direction(transition, i) != Direction.RIGHT) {
+                loadCurrentSymbol(i);
+                pushInt(START);
+                method.visitJumpInsn(IF_ICMPEQ, invalidTransition);
+            }
+            if (write != CompiledDeltaProgram.KEEP_SYMBOL && write != START) {
+                method.visitVarInsn(ILOAD, head(i));
+                method.visitJumpInsn(IFEQ, startSymbolNotFound);
+            }
+        }
+        for (int i = 0; i < totalTapes; i++) {
+            final int write = program.writeSymbol(transition, i);
+            if (write != CompiledDeltaProgram.KEEP_SYMBOL) {
+                method.visitVarInsn(ALOAD, cells(i));
+                method.visitVarInsn(ILOAD, head(i));
+                pushInt(write);
+                method.visitInsn(CASTORE);
+            }
+            switch (program.direction(transition, i)) {
+                case RIGHT -> moveRight(i);
+                case LEFT -> method.visitIincInsn(head(i), -1);
+                case STAY -> {}
+            }
+        }
+        nextStep(program.nextState(transition));
+    }
+
+    private void generateReject() {
+        method.visitLabel(reject);
+        for (int i = 0; i < totalTapes; i++) {
+            final Label stay = new Label();
+            loadCurrentSymbol(i);
+            pushInt(START);
+            method.visitJumpInsn(IF_ICMPNE, stay);
+            moveRight(i);
+            method.visitLabel(stay);
+        }
+        nextStep(program.rejectingState());
+    }
+
+    // The checks of a transition run before it touches any tape, so the state is still the one that failed
+    private void generateFailure(final Label label, final String factory) {
+        method.visitLabel(label);
+        writeBack();
+        method.visitMethodInsn(INVOKESTATIC, MACHINE, factory, "()Ljava/lang/RuntimeException;", false);
+        method.visitInsn(ATHROW);
+    }
+
+    private void generateEpilogue() {
+        method.visitLabel(exit);
+        writeBack();
+        method.visitInsn(RETURN);
+    }
+
+    private void writeBack() {
+        for (int i = 0; i < totalTapes; i++) {
+            method.visitVarInsn(ALOAD, buffer(i));
+            method.visitVarInsn(ALOAD, cells(i));
+            method.visitFieldInsn(PUTFIELD, TAPE, "cells", "[C");
+            method.visitVarInsn(ALOAD, buffer(i));
+            method.visitVarInsn(ILOAD, head(i));
+            method.visitFieldInsn(PUTFIELD, TAPE, "head", "I");
+            method.visitVarInsn(ALOAD, buffer(i));
+            method.visitVarInsn(ILOAD, length(i));
+            method.visitFieldInsn(PUTFIELD, TAPE, "length", "I");
+        }
+        method.visitVarInsn(ALOAD, THIS);
+        method.visitVarInsn(ILOAD, STATE);
+        method.visitFieldInsn(PUTFIELD, MACHINE, "state", "I");
+        method.visitVarInsn(ALOAD, THIS);
+        method.visitVarInsn(LLOAD, STEPS);
+        method.visitFieldInsn(PUTFIELD, MACHINE, "steps", "J");
+    }
+
+    private void moveRight(final int tape) {
+        final Label done = new Label();
+        final Label appendBlank = new Label();
+        method.visitIincInsn(head(tape), 1);
+        method.visitVarInsn(ILOAD, head(tape));
+        method.visitVarInsn(ILOAD, length(tape));
+        method.visitJumpInsn(IF_ICMPNE, done);
+        method.visitVarInsn(ILOAD, length(tape));
+        method.visitVarInsn(ALOAD, cells(tape));
+        method.visitInsn(ARRAYLENGTH);
+        method.visitJumpInsn(IF_ICMPNE, appendBlank);
+        method.visitVarInsn(ALOAD, cells(tape));
+        method.visitVarInsn(ILOAD, length(tape));
+        method.visitInsn(ICONST_1);
+        method.visitInsn(ISHL);
+        method.visitMethodInsn(INVOKESTATIC, "java/util/Arrays", "copyOf", "([CI)[C", false);
+        method.visitVarInsn(ASTORE, cells(tape));
+        method.visitLabel(appendBlank);
+        method.visitVarInsn(ALOAD, cells(tape));
+        method.visitVarInsn(ILOAD, length(tape));
+        pushInt(BLANK);
+        method.visitInsn(CASTORE);
+        method.visitIincInsn(length(tape), 1);
+        method.visitLabel(done);
+    }
+
+    private void nextStep(final int nextState) {
+        pushInt(nextState);
+        method.visitVarInsn(ISTORE, STATE);
+        method.visitVarInsn(LLOAD, STEPS);
+        method.visitInsn(LCONST_1);
+        method.visitInsn(LADD);
+        method.visitVarInsn(LSTORE, STEPS);
+        method.visitJumpInsn(GOTO, loop);
+    }
+
+    private void loadCurrentSymbol(final int tape) {
+        method.visitVarInsn(ALOAD, cells(tape));
+        method.visitVarInsn(ILOAD, head(tape));
+        method.visitInsn(CALOAD);
+    }
+
+    private void pushInt(final int value) {
+        if (value >= -1 && value <= 5) {
+            method.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            method.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            method.visitIntInsn(SIPUSH, value);
+        } else {
+            method.visitLdcInsn(value);
+        }
+    }
+
+    private static int buffer(final int tape) {
+        return FIRST_TAPE + 4 * tape;
+    }
+
+    private static int cells(final int tape) {
+        return FIRST_TAPE + 4 * tape + 1;
+    }
+
+    private static int head(final int tape) {
+        return FIRST_TAPE + 4 * tape + 2;
+    }
+
+    private static int length(final int tape) {
+        return FIRST_TAPE + 4 * tape + 3;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.vtramo.turingmachine.engine;
+
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
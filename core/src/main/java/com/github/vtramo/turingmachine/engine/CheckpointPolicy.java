@@ -0,0 +1,17 @@
+package com.github.vtramo.turingmachine.engine;
+
+public record CheckpointPolicy(int interval, boolean squareRootSpacing) {
+    private static final int SQUARE_ROOT_INITIAL_INTERVAL = 32;
+
+    public CheckpointPolicy {
+        if (interval <= 0) throw new IllegalArgumentException("The checkpoint interval must be greater than zero!");
+    }
+
+    public static CheckpointPolicy everySteps(final int interval) {
+        return new CheckpointPolicy(interval, false);
+    }
+
+    public static CheckpointPolicy squareRoot() {
+        return new CheckpointPolicy(SQUARE_ROOT_INITIAL_INTERVAL, true);
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+final class Checkpoints {
+    private final CheckpointPolicy policy;
+    private final TreeMap<Integer, Configuration> configurationByPosition = new TreeMap<>();
+    private int interval;
+
+    Checkpoints(final CheckpointPolicy policy, final Configuration start) {
+        this.policy = policy;
+        reset(start);
+    }
+
+    void reset(final Configuration start) {
+        configurationByPosition.clear();
+        configurationByPosition.put(0, start);
+        interval = policy.interval();
+    }
+
+    boolean isDue(final int position) {
+        return position % interval == 0 && !configurationByPosition.containsKey(position);
+    }
+
+    void add(final int position, final Configuration configuration) {
+        configurationByPosition.put(position, configuration);
+        if (policy.squareRootSpacing() && position > (long) interval * interval) {
+            interval <<= 1;
+            configurationByPosition.keySet().removeIf(checkpointPosition -> checkpointPosition % interval != 0);
+        }
+    }
+
+    Map.Entry<Integer, Configuration> floor(final int position) {
+        return configurationByPosition.floorEntry(position);
+    }
+
+    int size() {
+        return configurationByPosition.size();
+    }
+}
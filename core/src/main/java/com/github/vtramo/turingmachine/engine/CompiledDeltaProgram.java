@@ -0,0 +1,327 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.lang.invoke.MethodHandle;
+import java.util.*;
+
+final class CompiledDeltaProgram {
+    static final int UNKNOWN_STATE = 0;
+    static final int REJECT = -1;
+    private static final int OTHER_SYMBOL = 0;
+    private static final int ANY_SYMBOL = -1;
+    static final int KEEP_SYMBOL = -1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int DIRECTION_BITS = 2;
+    private static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+
+    private final int totalTapes;
+    private final String[] states;
+    private final Map<String, Integer> stateIds = new HashMap<>();
+    private final boolean[] terminalStates;
+    private final int acceptingState;
+    private final int rejectingState;
+    private final int haltingState;
+    private final int[] symbolCodes;
+    private final char[] symbols;
+    private final int alphabetSize;
+
+    // Each node holds one entry per symbol code: the offset of the node for the next tape,
+    // or a transition id (possibly REJECT) once every tape has been read.
+    private final int[] roots;
+    private final int[] table;
+
+    // Each transition takes transitionStride consecutive ints: the next state id, then one move per
+    // tape holding the symbol to write (or KEEP_SYMBOL) above the ordinal of the direction.
+    private final int transitionStride;
+    private final int transitionCount;
+    private final int[] transitions;
+    private Optional<MethodHandle> bytecodeMachineConstructor;
+
+    CompiledDeltaProgram(final int totalTapes, final Map<StateAndSymbols, Transition> program) {
+        this.totalTapes = totalTapes;
+
+        final List<String> stateNames = new ArrayList<>();
+        stateNames.add(null);
+        for (final TerminalState terminalState: TerminalState.values()) {
+            internState(stateNames, terminalState.getSymbol());
+        }
+        final SortedSet<Character> alphabet = new TreeSet<>(List.of(Symbol.START.getSymbol(), Symbol.BLANK.getSymbol()));
+        program.forEach((stateAndSymbols, transition) -> {
+            internState(stateNames, stateAndSymbols.state());
+            internState(stateNames, transition.state());
+            for (final char symbol: stateAndSymbols.symbols()) {
+                if (symbol != '*') alphabet.add(symbol);
+            }
+            for (final Move move: transition.moves()) {
+                if (!move.symbolIsAsterisk() || !stateAndSymbols.containsAsterisks()) alphabet.add(move.symbol());
+            }
+        });
+
+        this.states = stateNames.toArray(String[]::new);
+        this.terminalStates = new boolean[states.length];
+        for (int i = 1; i < states.length; i++) {
+            terminalStates[i] = TerminalState.isTerminalState(states[i]);
+        }
+        this.acceptingState = stateIds.get(TerminalState.ACCEPTING_STATE.getSymbol());
+        this.rejectingState = stateIds.get(TerminalState.REJECTING_STATE.getSymbol());
+        this.haltingState = stateIds.get(TerminalState.HALTING_STATE.getSymbol());
+
+        this.symbolCodes = new int[alphabet.last() + 1];
+        this.symbols = new char[alphabet.size() + 1];
+        int code = OTHER_SYMBOL;
+        for (final char symbol: alphabet) {
+            symbolCodes[symbol] = ++code;
+            symbols[code] = symbol;
+        }
+        this.alphabetSize = code + 1;
+
+        final List<List<Pattern>> patternsByState = new ArrayList<>();
+        for (int i = 0; i < states.length; i++) patternsByState.add(new ArrayList<>());
+        final List<Map.Entry<StateAndSymbols, Transition>> instructions = new ArrayList<>(program.entrySet());
+        instructions.sort(Map.Entry.comparingByKey(DeltaProgram.WILDCARD_PRECEDENCE));
+        this.transitionStride = totalTapes + 1;
+        this.transitionCount = instructions.size();
+        this.transitions = new int[transitionCount * transitionStride];
+        for (int id = 0; id < instructions.size(); id++) {
+            final StateAndSymbols stateAndSymbols = instructions.get(id).getKey();
+            final Transition transition = instructions.get(id).getValue();
+            compileTransition(id, stateAndSymbols, transition);
+            patternsByState.get(stateIds.get(stateAndSymbols.state())).add(new Pattern(encodePattern(stateAndSymbols), id));
+        }
+
+        final TableBuilder tableBuilder = new TableBuilder();
+        this.roots = new int[states.length];
+        for (int state = 0; state < states.length; state++) {
+            roots[state] = tableBuilder.build(0, patternsByState.get(state));
+        }
+        this.table = tableBuilder.toArray();
+    }
+
+    private void internState(final List<String> stateNames, final String state) {
+        if (stateIds.putIfAbsent(state, stateNames.size()) == null) {
+            stateNames.add(state);
+        }
+    }
+
+    private void compileTransition(final int id, final StateAndSymbols stateAndSymbols, final Transition transition) {
+        final List<Move> moves = transition.moves();
+        final int offset = id * transitionStride;
+        transitions[offset] = stateIds.get(transition.state());
+        for (int i = 0; i < totalTapes; i++) {
+            final Move move = moves.get(i);
+            final int write = (move.symbolIsAsterisk() && stateAndSymbols.containsAsterisks()) ? KEEP_SYMBOL : move.symbol();
+            transitions[offset + 1 + i] = (write << DIRECTION_BITS) | move.direction().ordinal();
+        }
+    }
+
+    private int[] encodePattern(final StateAndSymbols stateAndSymbols) {
+        final char[] symbols = stateAndSymbols.symbols();
+        final int[] codes = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            codes[i] = symbols[i] == '*' ? ANY_SYMBOL : symbolCode(symbols[i]);
+        }
+        return codes;
+    }
+
+    int stateId(final String state) {
+        return stateIds.getOrDefault(state, UNKNOWN_STATE);
+    }
+
+    String state(final int stateId) {
+        return states[stateId];
+    }
+
+    boolean isTerminalState(final int stateId) {
+        return terminalStates[stateId];
+    }
+
+    boolean isAcceptingState(final int stateId) {
+        return stateId == acceptingState;
+    }
+
+    boolean isRejectingState(final int stateId) {
+        return stateId == rejectingState;
+    }
+
+    boolean isHaltingState(final int stateId) {
+        return stateId == haltingState;
+    }
+
+    int symbolCode(final char symbol) {
+        return symbol < symbolCodes.length ? symbolCodes[symbol] : OTHER_SYMBOL;
+    }
+
+    int stateCount() {
+        return states.length;
+    }
+
+    int totalTapes() {
+        return totalTapes;
+    }
+
+    int alphabetSize() {
+        return alphabetSize;
+    }
+
+    char[] alphabet() {
+        return Arrays.copyOfRange(symbols, OTHER_SYMBOL + 1, alphabetSize);
+    }
+
+    char symbol(final int symbolCode) {
+        return symbols[symbolCode];
+    }
+
+    int root(final int stateId) {
+        return roots[stateId];
+    }
+
+    int tableEntry(final int index) {
+        return table[index];
+    }
+
+    int tableSize() {
+        return table.length;
+    }
+
+    int transitionCount() {
+        return transitionCount;
+    }
+
+    int writeSymbol(final int transition, final int tape) {
+        return transitions[transition * transitionStride + 1 + tape] >> DIRECTION_BITS;
+    }
+
+    synchronized CompiledMachine newBytecodeMachine() {
+        if (bytecodeMachineConstructor == null) {
+            bytecodeMachineConstructor = BytecodeCompiler.compile(this);
+        }
+        return bytecodeMachineConstructor.map(BytecodeCompiler::instantiate).orElse(null);
+    }
+
+    int rejectingState() {
+        return rejectingState;
+    }
+
+    int transition(final int stateId, final char symbol) {
+        return table[roots[stateId] + symbolCode(symbol)];
+    }
+
+    int nextState(final int transition) {
+        return transitions[transition * transitionStride];
+    }
+
+    char symbolToWrite(final int transition, final int tape, final char symbol) {
+        final int write = writeSymbol(transition, tape);
+        return write == KEEP_SYMBOL ? symbol : (char) write;
+    }
+
+    Direction direction(final int transition, final int tape) {
+        return DIRECTIONS[transitions[transition * transitionStride + 1 + tape] & DIRECTION_MASK];
+    }
+
+    int transition(final int stateId, final TapeBuffer[] tapes) {
+        int entry = roots[stateId];
+        for (int i = 0; i < totalTapes; i++) {
+            entry = table[entry + symbolCode(tapes[i].getCurrentSymbol())];
+        }
+        return entry;
+    }
+
+    int step(final int stateId, final TapeBuffer[] tapes) {
+        final int transition = transition(stateId, tapes);
+        if (transition == REJECT) {
+            reject(tapes);
+            return rejectingState;
+        }
+
+        final int[] transitions = this.transitions;
+        final int offset = transition * transitionStride;
+        for (int i = 0; i < totalTapes; i++) {
+            final int move = transitions[offset + 1 + i];
+            tapes[i].checkMove(symbolToWrite(move, tapes[i]), DIRECTIONS[move & DIRECTION_MASK]);
+        }
+        for (int i = 0; i < totalTapes; i++) {
+            final int move = transitions[offset + 1 + i];
+            tapes[i].move(symbolToWrite(move, tapes[i]), DIRECTIONS[move & DIRECTION_MASK]);
+        }
+        return transitions[offset];
+    }
+
+    private static char symbolToWrite(final int move, final TapeBuffer tape) {
+        final int write = move >> DIRECTION_BITS;
+        return write == KEEP_SYMBOL ? tape.getCurrentSymbol() : (char) write;
+    }
+
+    static void reject(final TapeBuffer[] tapes) {
+        for (final TapeBuffer tape: tapes) {
+            final char symbol = tape.getCurrentSymbol();
+            tape.move(symbol, symbol == Symbol.START.getSymbol() ? Direction.RIGHT : Direction.STAY);
+        }
+    }
+
+    private record Pattern(int[] codes, int transition) {
+        boolean matches(final int depth, final int code) {
+            return codes[depth] == ANY_SYMBOL || codes[depth] == code;
+        }
+        boolean matchesAnythingFrom(final int depth) {
+            for (int i = depth; i < codes.length; i++) {
+                if (codes[i] != ANY_SYMBOL) return false;
+            }
+            return true;
+        }
+    }
+
+    private class TableBuilder {
+        private final List<Map<List<Pattern>, Integer>> nodesByDepth = new ArrayList<>();
+        private int[] table = new int[64];
+        private int size;
+
+        TableBuilder() {
+            for (int i = 0; i < totalTapes; i++) nodesByDepth.add(new HashMap<>());
+        }
+
+        int build(final int depth, final List<Pattern> candidates) {
+            if (depth == totalTapes) {
+                return candidates.isEmpty() ? REJECT : candidates.getFirst().transition();
+            }
+
+            final List<Pattern> survivors = dropShadowedCandidates(depth, candidates);
+            final Map<List<Pattern>, Integer> nodes = nodesByDepth.get(depth);
+            final Integer existingNode = nodes.get(survivors);
+            if (existingNode != null) return existingNode;
+
+            final int node = allocateNode();
+            nodes.put(survivors, node);
+            for (int code = 0; code < alphabetSize; code++) {
+                final List<Pattern> matching = new ArrayList<>();
+                for (final Pattern pattern: survivors) {
+                    if (pattern.matches(depth, code)) matching.add(pattern);
+                }
+                final int entry = build(depth + 1, matching);
+                table[node + code] = entry;
+            }
+            return node;
+        }
+
+        private static List<Pattern> dropShadowedCandidates(final int depth, final List<Pattern> candidates) {
+            for (int i = 0; i < candidates.size(); i++) {
+                if (candidates.get(i).matchesAnythingFrom(depth)) {
+                    return candidates.subList(0, i + 1);
+                }
+            }
+            return candidates;
+        }
+
+        private int allocateNode() {
+            final int node = size;
+            size += alphabetSize;
+            if (size > table.length) {
+                table = Arrays.copyOf(table, Math.max(size, table.length << 1));
+            }
+            return node;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(table, size);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.StartSymbolNotFoundException;
+
+// The base class of the machines generated by BytecodeCompiler: run
+// executes at most maxSteps steps starting from state. When it returns, and also when a transition
+// throws, state and steps hold the state reached and the steps executed, and the tapes are up to date.
+abstract class CompiledMachine {
+    int state;
+    long steps;
+
+    abstract void run(TapeBuffer[] tapes, long maxSteps);
+
+    static RuntimeException invalidTransition() {
+        return new InvalidTransitionException("Start symbol transition not respected!");
+    }
+
+    static RuntimeException startSymbolNotFound() {
+        return new StartSymbolNotFoundException();
+    }
+}
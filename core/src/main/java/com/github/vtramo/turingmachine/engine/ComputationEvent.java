@@ -0,0 +1,30 @@
+package com.github.vtramo.turingmachine.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.vtramo.turingmachine.Computation")
+@Label("Computation")
+@Description("A computation run to halt, or until its limits stop it")
+@Category({ "Turing Machine", "Engine" })
+@StackTrace(false)
+final class ComputationEvent extends Event {
+    @Label("Initial State")
+    String initialState;
+    @Label("Tapes")
+    int tapes;
+    @Label("Execution Backend")
+    String executionBackend;
+    @Label("Tape Representation")
+    String tapeRepresentation;
+    @Label("Steps")
+    long steps;
+    @Label("Space")
+    long space;
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,41 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public record ComputationLimits(long maxSteps, Duration timeout, CancellationToken cancellationToken) {
+    private static final ComputationLimits UNLIMITED = new ComputationLimits(Long.MAX_VALUE, null, null);
+
+    public ComputationLimits {
+        if (maxSteps < 0) throw new IllegalArgumentException("The maximum number of steps cannot be negative!");
+        if (timeout != null && timeout.isNegative()) throw new IllegalArgumentException("The timeout cannot be negative!");
+    }
+
+    public static ComputationLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    public static ComputationLimits ofMaxSteps(final long maxSteps) {
+        return UNLIMITED.withMaxSteps(maxSteps);
+    }
+
+    public ComputationLimits withMaxSteps(final long maxSteps) {
+        return new ComputationLimits(maxSteps, timeout, cancellationToken);
+    }
+
+    public ComputationLimits withTimeout(final Duration timeout) {
+        return new ComputationLimits(maxSteps, Objects.requireNonNull(timeout), cancellationToken);
+    }
+
+    public ComputationLimits withCancellationToken(final CancellationToken cancellationToken) {
+        return new ComputationLimits(maxSteps, timeout, Objects.requireNonNull(cancellationToken));
+    }
+
+    boolean isCancelled() {
+        return cancellationToken != null && cancellationToken.isCancelled();
+    }
+
+    long timeoutNanos() {
+        return timeout == null ? Long.MAX_VALUE : timeout.toNanos();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.vtramo.turingmachine.engine;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ComputationOptions {
+    @Builder.Default
+    private final CheckpointPolicy checkpointPolicy = CheckpointPolicy.squareRoot();
+    @Builder.Default
+    private final TapeRepresentation tapeRepresentation = TapeRepresentation.ARRAY;
+    private final boolean loopDetection;
+    @Builder.Default
+    private final ExecutionBackend executionBackend = ExecutionBackend.INTERPRETER;
+
+    public static ComputationOptions defaults() {
+        return ComputationOptions.builder().build();
+    }
+}
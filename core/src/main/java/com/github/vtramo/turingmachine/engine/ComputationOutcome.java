@@ -0,0 +1,9 @@
+package com.github.vtramo.turingmachine.engine;
+
+public enum ComputationOutcome {
+    ACCEPTED, REJECTED, HALTED, NON_HALTING, BUDGET_EXHAUSTED, CANCELLED;
+
+    public boolean isTerminal() {
+        return this == ACCEPTED || this == REJECTED || this == HALTED;
+    }
+}
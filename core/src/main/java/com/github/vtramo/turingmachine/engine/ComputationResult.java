@@ -0,0 +1,19 @@
+package com.github.vtramo.turingmachine.engine;
+
+public record ComputationResult(ComputationOutcome outcome, String state, String output, long steps, long space) {
+    public boolean isHalted() {
+        return outcome.isTerminal();
+    }
+    public boolean isHaltingState() {
+        return outcome == ComputationOutcome.HALTED;
+    }
+    public boolean isAcceptingState() {
+        return outcome == ComputationOutcome.ACCEPTED;
+    }
+    public boolean isRejectingState() {
+        return outcome == ComputationOutcome.REJECTED;
+    }
+    public boolean isNonHalting() {
+        return outcome == ComputationOutcome.NON_HALTING;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.DuplicateTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.MalformedInstructionException;
+import lombok.Getter;
+
+import java.util.*;
+
+import static com.github.vtramo.turingmachine.engine.Transition.rejectingTransition;
+
+public class DeltaProgram {
+
+    static final Comparator<StateAndSymbols> WILDCARD_PRECEDENCE = (first, second) -> {
+        final char[] firstSymbols = first.symbols();
+        final char[] secondSymbols = second.symbols();
+        for (int i = 0; i < firstSymbols.length; i++) {
+            final boolean firstIsAsterisk = firstSymbols[i] == '*';
+            final boolean secondIsAsterisk = secondSymbols[i] == '*';
+            if (firstIsAsterisk != secondIsAsterisk) return firstIsAsterisk ? 1 : -1;
+            if (firstSymbols[i] != secondSymbols[i]) return Character.compare(firstSymbols[i], secondSymbols[i]);
+        }
+        return 0;
+    };
+
+    public static final int DEFAULT_TRANSITION_CACHE_CAPACITY = 4096;
+
+    @Getter
+    private final int totalTapes;
+    private final Map<StateAndSymbols, Transition> program = new HashMap<>();
+    private final Map<String, WildcardIndex> wildcardIndexByState = new HashMap<>();
+    // Serves apply only, that is single lookups such as the next transition of a computation shown
+    // step by step. Computations run on the table built by compile, which resolves each wildcard
+    // once per program without going through this cache.
+    private final TransitionCache<StateAndSymbols, Transition> wildcardTransitionCache;
+    private CompiledDeltaProgram compiledProgram;
+
+    public DeltaProgram(final int totalTapes) {
+        this(totalTapes, DEFAULT_TRANSITION_CACHE_CAPACITY);
+    }
+
+    public DeltaProgram(final int totalTapes, final int transitionCacheCapacity) {
+        if (totalTapes <= 0) {
+            throw new IllegalArgumentException("The number of tapes must be greater than or equal to one!");
+        }
+
+        this.totalTapes = totalTapes;
+        this.wildcardTransitionCache = new TransitionCache<>(transitionCacheCapacity);
+    }
+
+    public int addInstruction(final Instruction instruction) {
+        return addInstruction(instruction.stateAndSymbols(), instruction.transition());
+    }
+
+    public int addInstruction(final StateAndSymbols stateAndSymbols, final Transition transition) {
+        checkInstructionValidity(stateAndSymbols, transition);
+        if (stateAndSymbols.containsAsterisks()) {
+            wildcardIndexByState
+                .computeIfAbsent(stateAndSymbols.state(), __ -> new WildcardIndex())
+                .add(stateAndSymbols);
+        }
+        program.put(stateAndSymbols, transition);
+        compiledProgram = null;
+        wildcardTransitionCache.clear();
+        return program.size();
+    }
+
+    synchronized CompiledDeltaProgram compile() {
+        if (compiledProgram == null) {
+            compiledProgram = new CompiledDeltaProgram(totalTapes, program);
+        }
+        return compiledProgram;
+    }
+
+    private void checkInstructionValidity(final StateAndSymbols stateAndSymbols, final Transition transition) {
+        if (!Objects.equals(transition.totalTapes(), totalTapes)) {
+            throw new MalformedInstructionException("The symbols must be as many as there are tapes!");
+        }
+
+        if (!Objects.equals(stateAndSymbols.totalSymbols(), totalTapes)) {
+            throw new MalformedInstructionException("The transition must specify exactly one move for each tape!");
+        }
+
+        if (program.containsKey(stateAndSymbols)) {
+            throw new DuplicateTransitionException();
+        }
+    }
+
+    public Transition apply(final StateAndSymbols stateAndSymbols) {
+        final Transition transition = program.get(stateAndSymbols);
+        return transition == null
+            ? wildcardTransitionCache.computeIfAbsent(stateAndSymbols, this::findAsteriskTransition)
+            : transition;
+    }
+
+    public TransitionCacheStatistics getWildcardTransitionCacheStatistics() {
+        return wildcardTransitionCache.statistics();
+    }
+
+    private Transition findAsteriskTransition(final StateAndSymbols stateAndSymbols) {
+        final WildcardIndex wildcardIndex = wildcardIndexByState.get(stateAndSymbols.state());
+        final StateAndSymbols winningStateAndSymbols = (wildcardIndex == null)
+            ? null
+            : wildcardIndex.find(stateAndSymbols.symbols());
+        if (winningStateAndSymbols == null) return rejectingTransition(stateAndSymbols);
+
+        Transition transition = program.get(winningStateAndSymbols);
+        if (transition.containsAsterisks()) {
+            transition = transition.replaceAsterisksWith(stateAndSymbols.symbols());
+        }
+        return transition;
+    }
+}
\ No newline at end of file
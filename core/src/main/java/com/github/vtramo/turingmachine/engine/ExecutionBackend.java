@@ -0,0 +1,6 @@
+package com.github.vtramo.turingmachine.engine;
+
+public enum ExecutionBackend {
+    INTERPRETER,
+    BYTECODE
+}
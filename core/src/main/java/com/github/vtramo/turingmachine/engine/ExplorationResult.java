@@ -0,0 +1,10 @@
+package com.github.vtramo.turingmachine.engine;
+
+public record ExplorationResult(ComputationOutcome outcome, Configuration acceptingConfiguration, long depth, long exploredConfigurations) {
+    public boolean isAcceptingState() {
+        return outcome == ComputationOutcome.ACCEPTED;
+    }
+    public boolean isRejectingState() {
+        return outcome == ComputationOutcome.REJECTED;
+    }
+}
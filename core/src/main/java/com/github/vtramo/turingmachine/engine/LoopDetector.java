@@ -0,0 +1,112 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+// Keeps a Zobrist-style hash of the configuration, updated in constant time per step: blank cells
+// contribute nothing, so trailing blanks never make two equal configurations differ. Cycles are found
+// with Brent's algorithm and confirmed by comparing the configurations in full.
+final class LoopDetector {
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+
+    private final int totalTapes;
+    private final long[] headsBeforeStep;
+    private final char[] symbolsBeforeStep;
+    private long hash;
+
+    private long savedHash;
+    private int savedState;
+    private final long[] savedHeads;
+    private final String[] savedTapes;
+    private long power = 1;
+    private long lambda;
+
+    LoopDetector(final int state, final TapeBuffer[] tapes) {
+        this.totalTapes = tapes.length;
+        this.headsBeforeStep = new long[totalTapes];
+        this.symbolsBeforeStep = new char[totalTapes];
+        this.savedHeads = new long[totalTapes];
+        this.savedTapes = new String[totalTapes];
+
+        hash = stateHash(state);
+        for (int i = 0; i < totalTapes; i++) {
+            final String string = tapes[i].getString();
+            for (int position = 0; position < string.length(); position++) {
+                hash ^= cellHash(i, position, string.charAt(position));
+            }
+            hash ^= headHash(i, tapes[i].getHead());
+        }
+        save(state, tapes);
+    }
+
+    void beforeStep(final TapeBuffer[] tapes) {
+        for (int i = 0; i < totalTapes; i++) {
+            headsBeforeStep[i] = tapes[i].getHead();
+            symbolsBeforeStep[i] = tapes[i].getCurrentSymbol();
+        }
+    }
+
+    boolean afterStep(final int previousState, final int state, final TapeBuffer[] tapes) {
+        hash ^= stateHash(previousState) ^ stateHash(state);
+        for (int i = 0; i < totalTapes; i++) {
+            final long previousHead = headsBeforeStep[i];
+            final long head = tapes[i].getHead();
+            final char symbol = tapes[i].getSymbol(previousHead);
+            hash ^= cellHash(i, previousHead, symbolsBeforeStep[i]) ^ cellHash(i, previousHead, symbol);
+            hash ^= headHash(i, previousHead) ^ headHash(i, head);
+        }
+
+        if (hash == savedHash && isSaved(state, tapes)) return true;
+        if (++lambda == power) {
+            save(state, tapes);
+            power <<= 1;
+            lambda = 0;
+        }
+        return false;
+    }
+
+    private void save(final int state, final TapeBuffer[] tapes) {
+        savedHash = hash;
+        savedState = state;
+        for (int i = 0; i < totalTapes; i++) {
+            savedHeads[i] = tapes[i].getHead();
+            savedTapes[i] = stripTrailingBlanks(tapes[i].getString());
+        }
+    }
+
+    private boolean isSaved(final int state, final TapeBuffer[] tapes) {
+        if (state != savedState) return false;
+        for (int i = 0; i < totalTapes; i++) {
+            if (tapes[i].getHead() != savedHeads[i]) return false;
+        }
+        final String[] strings = new String[totalTapes];
+        for (int i = 0; i < totalTapes; i++) {
+            strings[i] = stripTrailingBlanks(tapes[i].getString());
+        }
+        return Arrays.equals(strings, savedTapes);
+    }
+
+    private static String stripTrailingBlanks(final String string) {
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) == BLANK) end--;
+        return string.substring(0, end);
+    }
+
+    private static long stateHash(final int state) {
+        return mix(state, -1, 0);
+    }
+
+    private static long headHash(final int tape, final long head) {
+        return mix(head, tape, 1);
+    }
+
+    private static long cellHash(final int tape, final long position, final char symbol) {
+        return symbol == BLANK ? 0 : mix(position, tape, symbol + 2);
+    }
+
+    private static long mix(final long a, final long b, final long c) {
+        long z = a * 0x9E3779B97F4A7C15L + b * 0xC2B2AE3D27D4EB4FL + c * 0x165667B19E3779F9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
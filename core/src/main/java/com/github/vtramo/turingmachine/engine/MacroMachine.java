@@ -0,0 +1,331 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.StartSymbolNotFoundException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs a single-tape Turing machine over blocks of {@code blockSize} cells instead of single cells.
+ * The tape is kept as runs of identical blocks, the effect of the machine on a block is computed once
+ * and kept in a bounded LRU cache shared by the runs, and a transition that sweeps through a run of identical blocks in the same state is applied
+ * to the whole run at once. Steps, space, output and the final state are the same as with {@link TuringMachine.Computation#runToHalt}.
+ */
+public final class MacroMachine {
+    public static final int DEFAULT_BLOCK_SIZE = 4;
+    public static final int DEFAULT_MACRO_TRANSITION_CACHE_CAPACITY = 1 << 16;
+    private static final long LIMITS_CHECK_INTERVAL_STEPS = 1 << 16;
+    private static final int MAX_OUTPUT_LENGTH = Integer.MAX_VALUE - 8;
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+    private static final char START = Symbol.START.getSymbol();
+    private static final int NO_EXIT = 0;
+    private static final int LEFT_EXIT = -1;
+    private static final int RIGHT_EXIT = 1;
+
+    private final TuringMachine turingMachine;
+    private final CompiledDeltaProgram program;
+    private final int blockSize;
+    private final String blankBlock;
+    private final TransitionCache<MacroKey, MacroTransition> macroTransitions;
+
+    public MacroMachine(final TuringMachine turingMachine) {
+        this(turingMachine, DEFAULT_BLOCK_SIZE);
+    }
+
+    public MacroMachine(final TuringMachine turingMachine, final int blockSize) {
+        this(turingMachine, blockSize, DEFAULT_MACRO_TRANSITION_CACHE_CAPACITY);
+    }
+
+    public MacroMachine(final TuringMachine turingMachine, final int blockSize, final int macroTransitionCacheCapacity) {
+        Objects.requireNonNull(turingMachine);
+        if (turingMachine.getTotalTapes() != 1) throw new IllegalArgumentException("The macro machine supports single-tape Turing machines only!");
+        if (blockSize <= 0) throw new IllegalArgumentException("The block size must be greater than zero!");
+        this.turingMachine = turingMachine;
+        this.program = turingMachine.getProgram().compile();
+        this.blockSize = blockSize;
+        this.blankBlock = String.valueOf(BLANK).repeat(blockSize);
+        this.macroTransitions = new TransitionCache<>(macroTransitionCacheCapacity);
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getCachedMacroTransitions() {
+        return macroTransitions.statistics().size();
+    }
+
+    public TransitionCacheStatistics getMacroTransitionCacheStatistics() {
+        return macroTransitions.statistics();
+    }
+
+    public ComputationResult run(final String input) {
+        return run(input, ComputationLimits.unlimited());
+    }
+
+    public ComputationResult run(final String input, final ComputationLimits limits) {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(limits);
+        return new MacroComputation(input, limits).run();
+    }
+
+    private MacroTransition simulate(final int initialState, final String block, final int offset, final boolean firstBlock, final long maxSteps) {
+        final char[] cells = block.toCharArray();
+        int state = initialState;
+        int position = offset;
+        int maxOffset = offset;
+        long steps = 0;
+        int exit = NO_EXIT;
+        while (!program.isTerminalState(state) && steps < maxSteps) {
+            final char symbol = cells[position];
+            final int transition = program.transition(state, symbol);
+            final char symbolToWrite;
+            final Direction direction;
+            final int nextState;
+            if (transition == CompiledDeltaProgram.REJECT) {
+                symbolToWrite = symbol;
+                direction = symbol == START ? Direction.RIGHT : Direction.STAY;
+                nextState = program.rejectingState();
+            } else {
+                symbolToWrite = program.symbolToWrite(transition, 0, symbol);
+                direction = program.direction(transition, 0);
+                nextState = program.nextState(transition);
+            }
+            if (symbol == START && direction != Direction.RIGHT) {
+                throw new InvalidTransitionException("Start symbol transition not respected!");
+            }
+            if (firstBlock && position == 0 && symbolToWrite != START) {
+                throw new StartSymbolNotFoundException();
+            }
+
+            cells[position] = symbolToWrite;
+            position += direction.getValue();
+            state = nextState;
+            steps++;
+            if (position < 0) {
+                exit = LEFT_EXIT;
+                break;
+            }
+            if (position == blockSize) {
+                exit = RIGHT_EXIT;
+                break;
+            }
+            maxOffset = Math.max(maxOffset, position);
+        }
+        final boolean complete = exit != NO_EXIT || program.isTerminalState(state);
+        return new MacroTransition(state, String.valueOf(cells), position, exit, steps, maxOffset, complete);
+    }
+
+    private record MacroKey(int state, String block, int offset, boolean firstBlock) {}
+
+    private record MacroTransition(int state, String block, int offset, int exit, long steps, int maxOffset, boolean complete) {}
+
+    private static final class BlockRun {
+        private final String block;
+        private long count;
+
+        private BlockRun(final String block, final long count) {
+            this.block = block;
+            this.count = count;
+        }
+    }
+
+    private final class MacroComputation {
+        private final ComputationLimits limits;
+        private final long startNanos = System.nanoTime();
+        private final long initialSpace;
+        // The top of each deque is the run next to the head block. The bottom of the left deque is
+        // always the first block alone, the right deque never ends with blanks: the rest of the tape is blank.
+        private final Deque<BlockRun> left = new ArrayDeque<>();
+        private final Deque<BlockRun> right = new ArrayDeque<>();
+        private String block;
+        private int offset;
+        private long blockIndex;
+        private int state;
+        private long steps;
+        private long remainingSteps;
+        private long maxHead;
+        private long stepsSinceLimitsCheck = LIMITS_CHECK_INTERVAL_STEPS;
+
+        private MacroComputation(final String input, final ComputationLimits limits) {
+            this.limits = limits;
+            this.remainingSteps = limits.maxSteps();
+            final String tape = START + input;
+            this.initialSpace = tape.length();
+            final int totalBlocks = (tape.length() + blockSize - 1) / blockSize;
+            for (int i = totalBlocks - 1; i > 0; i--) {
+                pushRight(blockOf(tape, i), 1);
+            }
+            this.block = blockOf(tape, 0);
+            this.state = program.stateId(turingMachine.getInitialState());
+        }
+
+        private String blockOf(final String tape, final int index) {
+            final int start = index * blockSize;
+            final String cells = tape.substring(start, Math.min(start + blockSize, tape.length()));
+            return cells + blankBlock.substring(cells.length());
+        }
+
+        private ComputationResult run() {
+            ComputationOutcome interruption = null;
+            while (!program.isTerminalState(state)) {
+                if (remainingSteps == 0) {
+                    interruption = ComputationOutcome.BUDGET_EXHAUSTED;
+                    break;
+                }
+                if (stepsSinceLimitsCheck >= LIMITS_CHECK_INTERVAL_STEPS) {
+                    stepsSinceLimitsCheck = 0;
+                    if (System.nanoTime() - startNanos >= limits.timeoutNanos()) {
+                        interruption = ComputationOutcome.BUDGET_EXHAUSTED;
+                        break;
+                    }
+                    if (limits.isCancelled()) {
+                        interruption = ComputationOutcome.CANCELLED;
+                        break;
+                    }
+                }
+                macroStep();
+            }
+
+            final ComputationOutcome outcome = (interruption == null) ? getOutcome() : interruption;
+            final String stateName = state == CompiledDeltaProgram.UNKNOWN_STATE ? turingMachine.getInitialState() : program.state(state);
+            final String output = outcome == ComputationOutcome.HALTED ? output() : null;
+            return new ComputationResult(outcome, stateName, output, steps, Math.max(initialSpace, maxHead + 1));
+        }
+
+        private ComputationOutcome getOutcome() {
+            if (program.isAcceptingState(state)) return ComputationOutcome.ACCEPTED;
+            if (program.isRejectingState(state)) return ComputationOutcome.REJECTED;
+            return ComputationOutcome.HALTED;
+        }
+
+        private void macroStep() {
+            final boolean firstBlock = blockIndex == 0;
+            final MacroKey key = new MacroKey(state, block, offset, firstBlock);
+            MacroTransition transition = macroTransitions.get(key);
+            if (transition == null || transition.steps() > remainingSteps) {
+                transition = simulate(state, block, offset, firstBlock, Math.min(remainingSteps, LIMITS_CHECK_INTERVAL_STEPS));
+                if (transition.complete()) macroTransitions.put(key, transition);
+            }
+
+            final long repetitions = firstBlock || transition.state() != state ? 1 : repetitions(transition);
+            final long executedSteps = repetitions * transition.steps();
+            steps += executedSteps;
+            remainingSteps -= executedSteps;
+            stepsSinceLimitsCheck += executedSteps;
+            state = transition.state();
+            switch (transition.exit()) {
+                case RIGHT_EXIT -> exitRight(transition, repetitions);
+                case LEFT_EXIT -> exitLeft(transition, repetitions);
+                default -> {
+                    maxHead = Math.max(maxHead, blockIndex * blockSize + transition.maxOffset());
+                    block = transition.block();
+                    offset = transition.offset();
+                }
+            }
+        }
+
+        // A transition that enters a block from one side and leaves it from the other in the same state
+        // does the same to every identical block that follows in that direction.
+        private long repetitions(final MacroTransition transition) {
+            final long identicalBlocks;
+            if (transition.exit() == RIGHT_EXIT && offset == 0) {
+                final BlockRun next = right.peek();
+                if (next == null) {
+                    identicalBlocks = block.equals(blankBlock) ? Long.MAX_VALUE : 1;
+                } else {
+                    identicalBlocks = next.block.equals(block) ? next.count + 1 : 1;
+                }
+                return Math.min(identicalBlocks, remainingSteps / transition.steps());
+            }
+            if (transition.exit() == LEFT_EXIT && offset == blockSize - 1) {
+                final BlockRun previous = left.peek();
+                identicalBlocks = left.size() > 1 && previous.block.equals(block) ? previous.count + 1 : 1;
+                return Math.min(identicalBlocks, remainingSteps / transition.steps());
+            }
+            return 1;
+        }
+
+        private void exitRight(final MacroTransition transition, final long repetitions) {
+            maxHead = Math.max(maxHead, (blockIndex + repetitions - 1) * blockSize + transition.maxOffset());
+            take(right, repetitions - 1);
+            pushLeft(transition.block(), repetitions);
+            blockIndex += repetitions;
+            block = take(right, 1);
+            offset = 0;
+            maxHead = Math.max(maxHead, blockIndex * blockSize);
+        }
+
+        private void exitLeft(final MacroTransition transition, final long repetitions) {
+            maxHead = Math.max(maxHead, blockIndex * blockSize + transition.maxOffset());
+            take(left, repetitions - 1);
+            pushRight(transition.block(), repetitions);
+            blockIndex -= repetitions;
+            block = take(left, 1);
+            offset = blockSize - 1;
+        }
+
+        private String take(final Deque<BlockRun> runs, long count) {
+            String taken = blankBlock;
+            while (count > 0 && !runs.isEmpty()) {
+                final BlockRun run = runs.peek();
+                final long taking = Math.min(count, run.count);
+                run.count -= taking;
+                count -= taking;
+                taken = run.block;
+                if (run.count == 0) runs.pop();
+            }
+            return taken;
+        }
+
+        private void pushLeft(final String block, final long count) {
+            final BlockRun top = left.peek();
+            if (top != null && left.size() > 1 && top.block.equals(block)) {
+                top.count += count;
+            } else {
+                left.push(new BlockRun(block, count));
+            }
+        }
+
+        private void pushRight(final String block, final long count) {
+            final BlockRun top = right.peek();
+            if (top == null && block.equals(blankBlock)) return;
+            if (top != null && top.block.equals(block)) {
+                top.count += count;
+            } else {
+                right.push(new BlockRun(block, count));
+            }
+        }
+
+        private String output() {
+            final List<BlockRun> runs = new ArrayList<>();
+            left.descendingIterator().forEachRemaining(runs::add);
+            runs.add(new BlockRun(block, 1));
+            runs.addAll(right);
+
+            final StringBuilder output = new StringBuilder();
+            long pendingBlankBlocks = 0;
+            for (final BlockRun run: runs) {
+                if (run.block.equals(blankBlock)) {
+                    pendingBlankBlocks += run.count;
+                    continue;
+                }
+                append(output, blankBlock, pendingBlankBlocks);
+                append(output, run.block, run.count);
+                pendingBlankBlocks = 0;
+            }
+            return output.toString().replaceAll("(_+)$", "").substring(1);
+        }
+
+        private static void append(final StringBuilder output, final String block, final long count) {
+            if (count > (MAX_OUTPUT_LENGTH - output.length()) / block.length()) {
+                throw new IllegalStateException("The output does not fit in a string!");
+            }
+            output.append(block.repeat((int) count));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.DuplicateTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.MalformedInstructionException;
+import lombok.Getter;
+
+import java.util.*;
+
+import static com.github.vtramo.turingmachine.engine.Transition.rejectingTransition;
+
+public class NondeterministicDeltaProgram {
+    @Getter
+    private final int totalTapes;
+    private final Map<StateAndSymbols, List<Transition>> program = new HashMap<>();
+    private final Map<String, WildcardIndex> wildcardIndexByState = new HashMap<>();
+
+    public NondeterministicDeltaProgram(final int totalTapes) {
+        if (totalTapes <= 0) {
+            throw new IllegalArgumentException("The number of tapes must be greater than or equal to one!");
+        }
+        this.totalTapes = totalTapes;
+    }
+
+    public int addInstruction(final Instruction instruction) {
+        return addInstruction(instruction.stateAndSymbols(), instruction.transition());
+    }
+
+    public int addInstruction(final StateAndSymbols stateAndSymbols, final Transition transition) {
+        checkInstructionValidity(stateAndSymbols, transition);
+        if (stateAndSymbols.containsAsterisks()) {
+            wildcardIndexByState
+                .computeIfAbsent(stateAndSymbols.state(), __ -> new WildcardIndex())
+                .add(stateAndSymbols);
+        }
+        program.computeIfAbsent(stateAndSymbols, __ -> new ArrayList<>()).add(transition);
+        return program.size();
+    }
+
+    private void checkInstructionValidity(final StateAndSymbols stateAndSymbols, final Transition transition) {
+        if (!Objects.equals(transition.totalTapes(), totalTapes)) {
+            throw new MalformedInstructionException("The symbols must be as many as there are tapes!");
+        }
+
+        if (!Objects.equals(stateAndSymbols.totalSymbols(), totalTapes)) {
+            throw new MalformedInstructionException("The transition must specify exactly one move for each tape!");
+        }
+
+        if (program.getOrDefault(stateAndSymbols, List.of()).contains(transition)) {
+            throw new DuplicateTransitionException();
+        }
+    }
+
+    public List<Transition> apply(final StateAndSymbols stateAndSymbols) {
+        final List<Transition> transitions = program.get(stateAndSymbols);
+        return transitions == null ? findAsteriskTransitions(stateAndSymbols) : transitions;
+    }
+
+    private List<Transition> findAsteriskTransitions(final StateAndSymbols stateAndSymbols) {
+        final WildcardIndex wildcardIndex = wildcardIndexByState.get(stateAndSymbols.state());
+        final StateAndSymbols winningStateAndSymbols = (wildcardIndex == null)
+            ? null
+            : wildcardIndex.find(stateAndSymbols.symbols());
+        if (winningStateAndSymbols == null) return List.of(rejectingTransition(stateAndSymbols));
+
+        final List<Transition> transitions = new ArrayList<>();
+        for (final Transition transition: program.get(winningStateAndSymbols)) {
+            transitions.add(transition.containsAsterisks()
+                ? transition.replaceAsterisksWith(stateAndSymbols.symbols())
+                : transition);
+        }
+        return transitions;
+    }
+}
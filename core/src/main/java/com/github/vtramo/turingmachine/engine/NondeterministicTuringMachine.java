@@ -0,0 +1,127 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.StartSymbolNotFoundException;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * A Turing machine whose transition function may offer several moves for the same state and symbols.
+ * The tree of configurations is explored breadth-first, one level at a time, on the common fork-join pool:
+ * configurations already seen are discarded and the input is accepted as soon as a branch reaches the accepting state.
+ * Branches that reach any other terminal state, or that take a transition breaking the start symbol rule, just end;
+ * the input is rejected when all of them have ended.
+ */
+public class NondeterministicTuringMachine {
+    public static final int DEFAULT_MAX_CONFIGURATIONS = 1 << 20;
+
+    @Getter
+    private final String initialState;
+    @Getter
+    private final NondeterministicDeltaProgram program;
+
+    @Getter
+    @Setter
+    private String name;
+
+    @Getter
+    @Setter
+    private String description;
+
+    public NondeterministicTuringMachine(final String initialState, final NondeterministicDeltaProgram program) {
+        Objects.requireNonNull(initialState);
+        Objects.requireNonNull(program);
+        this.initialState = initialState;
+        this.program = program;
+    }
+
+    public int getTotalTapes() {
+        return program.getTotalTapes();
+    }
+
+    public ExplorationResult explore(final String input) {
+        return explore(input, ComputationLimits.unlimited(), DEFAULT_MAX_CONFIGURATIONS);
+    }
+
+    // The maximum number of steps bounds the depth of the exploration, the maximum number of
+    // configurations bounds the memory spent remembering the configurations already seen.
+    public ExplorationResult explore(final String input, final ComputationLimits limits, final int maxConfigurations) {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(limits);
+        if (maxConfigurations <= 0) throw new IllegalArgumentException("The maximum number of configurations must be greater than zero!");
+
+        final long startNanos = System.nanoTime();
+        final Configuration initialConfiguration = Configuration.buildInitialConfiguration(initialState, input, getTotalTapes());
+        if (isAccepting(initialConfiguration)) return new ExplorationResult(ComputationOutcome.ACCEPTED, initialConfiguration, 0, 1);
+
+        final Set<String> visited = ConcurrentHashMap.newKeySet();
+        visited.add(key(initialConfiguration));
+        final AtomicReference<Configuration> acceptingConfiguration = new AtomicReference<>();
+        List<Configuration> frontier = List.of(initialConfiguration);
+        long depth = 0;
+        while (!frontier.isEmpty()) {
+            if (depth == limits.maxSteps() || System.nanoTime() - startNanos >= limits.timeoutNanos() || visited.size() > maxConfigurations) {
+                return new ExplorationResult(ComputationOutcome.BUDGET_EXHAUSTED, null, depth, visited.size());
+            }
+            if (limits.isCancelled()) {
+                return new ExplorationResult(ComputationOutcome.CANCELLED, null, depth, visited.size());
+            }
+
+            // A level can be much wider than the budget: stop expanding it as soon as the budget is spent
+            frontier = frontier.parallelStream()
+                .flatMap(configuration -> acceptingConfiguration.get() == null && visited.size() <= maxConfigurations
+                    ? successors(configuration)
+                    : Stream.empty())
+                .filter(successor -> visited.add(key(successor)))
+                .filter(successor -> {
+                    if (isAccepting(successor)) acceptingConfiguration.compareAndSet(null, successor);
+                    return !TerminalState.isTerminalState(successor.getState());
+                })
+                .toList();
+            depth++;
+
+            if (acceptingConfiguration.get() != null) {
+                return new ExplorationResult(ComputationOutcome.ACCEPTED, acceptingConfiguration.get(), depth, visited.size());
+            }
+        }
+        if (visited.size() > maxConfigurations) {
+            return new ExplorationResult(ComputationOutcome.BUDGET_EXHAUSTED, null, depth, visited.size());
+        }
+        return new ExplorationResult(ComputationOutcome.REJECTED, null, depth, visited.size());
+    }
+
+    private Stream<Configuration> successors(final Configuration configuration) {
+        final Tape[] tapes = configuration.getTapes();
+        return program.apply(configuration.getCurrentStateAndSymbols()).stream().<Configuration>mapMulti((transition, successors) -> {
+            final Tape[] newTapes = new Tape[tapes.length];
+            try {
+                for (int i = 0; i < tapes.length; i++) {
+                    newTapes[i] = tapes[i].move(transition.moves().get(i));
+                }
+            } catch (InvalidTransitionException | StartSymbolNotFoundException e) {
+                return;
+            }
+            successors.accept(new Configuration(transition.state(), newTapes));
+        });
+    }
+
+    private static boolean isAccepting(final Configuration configuration) {
+        return Objects.equals(configuration.getState(), TerminalState.ACCEPTING_STATE.getSymbol());
+    }
+
+    // Trailing blanks do not change what a configuration can do next, so they are left out.
+    private static String key(final Configuration configuration) {
+        final StringBuilder key = new StringBuilder(configuration.getState());
+        for (final Tape tape: configuration.getTapes()) {
+            key.append('\0').append(tape.getCursor()).append('\0').append(tape.getString().replaceAll("(_+)$", ""));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.vtramo.turingmachine.engine;
+
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Keeps one byte per cell outside of the heap, in chunks of 64 KiB allocated as the tape grows: direct
+// buffers, or regions of a temporary file mapped in memory. Positions are longs, so the length of the
+// tape is not bounded by the size of an array. The blank symbol is byte 0, so fresh chunks need no
+// initialisation; any other symbol gets its byte the first time it is written. Since a cell is a single
+// byte, a tape holds at most 256 distinct symbols, the blank one included: writing one more throws an
+// IllegalStateException.
+//
+// The chunks are freed, and the file closed, by release; a cleaner frees them if the buffer becomes
+// unreachable before.
+final class OffHeapTapeBuffer extends TapeBuffer {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_SYMBOLS = 256;
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Unsafe UNSAFE = unsafe();
+
+    private final Chunks chunks;
+    private final Cleaner.Cleanable cleanable;
+    private final char[] symbols = new char[MAX_SYMBOLS];
+    // The codes of the symbols below MAX_SYMBOLS plus one, so that 0 means unassigned.
+    private final short[] latinCodes = new short[MAX_SYMBOLS];
+    private final Map<Character, Integer> otherCodes = new HashMap<>();
+    private int totalSymbols;
+    private long head;
+    private long length;
+
+    OffHeapTapeBuffer(final char[] string, final long head, final boolean memoryMapped) {
+        Tape.checkString(string, Math.toIntExact(head));
+        this.chunks = new Chunks(memoryMapped ? createFile() : null);
+        this.cleanable = CLEANER.register(this, chunks);
+        code(BLANK);
+
+        for (long position = 0; position < string.length; position++) {
+            chunks.ensure(position);
+            put(position, code(string[(int) position]));
+        }
+        this.head = head;
+        this.length = string.length;
+    }
+
+    private static Unsafe unsafe() {
+        try {
+            final Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static FileChannel createFile() {
+        try {
+            final Path path = Files.createTempFile("tape", ".cells");
+            return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public char getCurrentSymbol() {
+        return getSymbol(head);
+    }
+
+    @Override
+    char getSymbol(final long position) {
+        return symbols[chunks.buffers[(int) (position >>> CHUNK_BITS)].get((int) position & CHUNK_MASK) & 0xFF];
+    }
+
+    @Override
+    void move(final char symbol, final Direction direction) {
+        put(head, code(symbol));
+        head += direction.getValue();
+        if (head == length) {
+            chunks.ensure(length);
+            put(length++, (byte) 0);
+        }
+    }
+
+    @Override
+    void undo(final char overwrittenSymbol, final long headDelta, final boolean grew) {
+        if (grew) length--;
+        head -= headDelta;
+        put(head, code(overwrittenSymbol));
+    }
+
+    @Override
+    void release() {
+        cleanable.clean();
+    }
+
+    private void put(final long position, final byte code) {
+        chunks.buffers[(int) (position >>> CHUNK_BITS)].put((int) position & CHUNK_MASK, code);
+    }
+
+    private byte code(final char symbol) {
+        if (symbol < MAX_SYMBOLS) {
+            if (latinCodes[symbol] == 0) latinCodes[symbol] = (short) (newCode(symbol) + 1);
+            return (byte) (latinCodes[symbol] - 1);
+        }
+        return (byte) (int) otherCodes.computeIfAbsent(symbol, this::newCode);
+    }
+
+    private int newCode(final char symbol) {
+        if (totalSymbols == MAX_SYMBOLS) {
+            throw new IllegalStateException("An off-heap tape holds at most " + MAX_SYMBOLS + " distinct symbols!");
+        }
+        symbols[totalSymbols] = symbol;
+        return totalSymbols++;
+    }
+
+    @Override
+    public long getHead() { return head; }
+
+    @Override
+    public long getSpace() { return length; }
+
+    @Override
+    public String getString() {
+        final char[] string = new char[Math.toIntExact(length)];
+        for (int position = 0; position < string.length; position++) {
+            string[position] = getSymbol(position);
+        }
+        return String.valueOf(string);
+    }
+
+    // Kept apart from the buffer, so that the cleaner can free the chunks without reaching it.
+    private static final class Chunks implements Runnable {
+        private final FileChannel file;
+        private ByteBuffer[] buffers = new ByteBuffer[1];
+
+        private Chunks(final FileChannel file) {
+            this.file = file;
+        }
+
+        private void ensure(final long position) {
+            final long chunk = position >>> CHUNK_BITS;
+            if (chunk == buffers.length) {
+                buffers = Arrays.copyOf(buffers, Math.toIntExact((long) buffers.length << 1));
+            }
+            if (buffers[(int) chunk] == null) {
+                buffers[(int) chunk] = allocate(chunk);
+            }
+        }
+
+        private ByteBuffer allocate(final long chunk) {
+            if (file == null) return ByteBuffer.allocateDirect(CHUNK_SIZE);
+            try {
+                return file.map(FileChannel.MapMode.READ_WRITE, chunk << CHUNK_BITS, CHUNK_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            final ByteBuffer[] buffers = this.buffers;
+            this.buffers = null;
+            for (final ByteBuffer buffer: buffers) {
+                if (buffer != null) UNSAFE.invokeCleaner(buffer);
+            }
+            if (file == null) return;
+            try {
+                file.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
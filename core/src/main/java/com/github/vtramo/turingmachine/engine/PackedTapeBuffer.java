@@ -0,0 +1,124 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+// Packs the cells into longs with 2, 4, 8 or 16 bits each, the fewest that encode every symbol met so
+// far. The blank symbol has code 0, so cells past the end are blank without being written; a symbol
+// that does not fit the current width repacks the tape once with twice the bits per cell.
+final class PackedTapeBuffer extends TapeBuffer {
+    private static final int MIN_WORDS = 4;
+    private static final int MAX_CELL_BITS_LOG = 4;
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+
+    private char[] symbols = new char[4];
+    // The codes of the symbols plus one, so that 0 means unassigned.
+    private char[] codes = new char[128];
+    private int totalSymbols;
+    private int cellBitsLog;
+    private long cellMask;
+    private long[] words;
+    private int head;
+    private int length;
+
+    PackedTapeBuffer(final char[] string, final int head, final char[] alphabet) {
+        Tape.checkString(string, head);
+        code(BLANK);
+        for (final char symbol: alphabet) code(symbol);
+        for (final char symbol: string) code(symbol);
+        this.cellBitsLog = cellBitsLog(totalSymbols);
+        this.cellMask = (1L << (1 << cellBitsLog)) - 1;
+        this.words = new long[Math.max(MIN_WORDS, wordsFor(string.length))];
+        for (int position = 0; position < string.length; position++) {
+            put(position, code(string[position]));
+        }
+        this.head = head;
+        this.length = string.length;
+    }
+
+    private static int cellBitsLog(final int totalSymbols) {
+        int cellBitsLog = 1;
+        while (cellBitsLog < MAX_CELL_BITS_LOG && totalSymbols > 1 << (1 << cellBitsLog)) cellBitsLog++;
+        return cellBitsLog;
+    }
+
+    private int wordsFor(final int cells) {
+        return (int) (((long) cells << cellBitsLog) + Long.SIZE - 1 >>> 6);
+    }
+
+    @Override
+    public char getCurrentSymbol() {
+        return getSymbol(head);
+    }
+
+    @Override
+    char getSymbol(final long position) {
+        return symbols[get((int) position)];
+    }
+
+    @Override
+    void move(final char symbol, final Direction direction) {
+        put(head, code(symbol));
+        head += direction.getValue();
+        if (head == length) {
+            if (wordsFor(length + 1) > words.length) {
+                words = Arrays.copyOf(words, words.length << 1);
+            }
+            put(length++, 0);
+        }
+    }
+
+    @Override
+    void undo(final char overwrittenSymbol, final long headDelta, final boolean grew) {
+        if (grew) length--;
+        head -= headDelta;
+        put(head, code(overwrittenSymbol));
+    }
+
+    private int get(final int position) {
+        final long bit = (long) position << cellBitsLog;
+        return (int) (words[(int) (bit >>> 6)] >>> bit & cellMask);
+    }
+
+    private void put(final int position, final int code) {
+        final long bit = (long) position << cellBitsLog;
+        final int word = (int) (bit >>> 6);
+        words[word] = words[word] & ~(cellMask << bit) | (long) code << bit;
+    }
+
+    private int code(final char symbol) {
+        if (symbol >= codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(symbol + 1, codes.length << 1));
+        }
+        if (codes[symbol] == 0) {
+            if (totalSymbols == symbols.length) symbols = Arrays.copyOf(symbols, totalSymbols << 1);
+            symbols[totalSymbols] = symbol;
+            codes[symbol] = (char) ++totalSymbols;
+            if (words != null && cellBitsLog(totalSymbols) > cellBitsLog) repack(cellBitsLog(totalSymbols));
+        }
+        return codes[symbol] - 1;
+    }
+
+    private void repack(final int newCellBitsLog) {
+        final int[] cells = new int[length];
+        for (int position = 0; position < length; position++) cells[position] = get(position);
+        cellBitsLog = newCellBitsLog;
+        cellMask = (1L << (1 << cellBitsLog)) - 1;
+        words = new long[Math.max(MIN_WORDS, wordsFor(length) << 1)];
+        for (int position = 0; position < length; position++) put(position, cells[position]);
+    }
+
+    @Override
+    public long getHead() { return head; }
+
+    @Override
+    public long getSpace() { return length; }
+
+    @Override
+    public String getString() {
+        final char[] string = new char[length];
+        for (int position = 0; position < length; position++) {
+            string[position] = getSymbol(position);
+        }
+        return String.valueOf(string);
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+// The runs are split in two stacks around the head, so that splitting and merging the run under
+// the head never shifts the others. Adjacent runs always hold different symbols.
+final class RunLengthTapeBuffer extends TapeBuffer {
+    private static final int MIN_CAPACITY = 16;
+    private static final char BLANK = Symbol.BLANK.getSymbol();
+
+    // The runs to the left of the head run, the last one is the nearest to the head.
+    private char[] leftSymbols = new char[MIN_CAPACITY];
+    private int[] leftLengths = new int[MIN_CAPACITY];
+    private int leftRuns;
+    // The head run and the runs to its right, the last one is the head run.
+    private char[] rightSymbols = new char[MIN_CAPACITY];
+    private int[] rightLengths = new int[MIN_CAPACITY];
+    private int rightRuns;
+    private int offset;
+    private int head;
+    private int length;
+
+    RunLengthTapeBuffer(final char[] string, final int head) {
+        Tape.checkString(string, head);
+        this.head = head;
+        this.length = string.length;
+
+        int headRunStart = 0;
+        for (int start = 0, end = 1; end <= string.length; end++) {
+            if (end < string.length && string[end] == string[start]) continue;
+            if (end > head) {
+                headRunStart = start;
+                break;
+            }
+            pushLeft(string[start], end - start);
+            start = end;
+        }
+        for (int end = string.length, start = end - 1; end > headRunStart; end = start, start = end - 1) {
+            while (start > headRunStart && string[start - 1] == string[end - 1]) start--;
+            pushRight(string[end - 1], end - start);
+        }
+        this.offset = head - headRunStart;
+    }
+
+    @Override
+    public char getCurrentSymbol() {
+        return rightSymbols[rightRuns - 1];
+    }
+
+    @Override
+    char getSymbol(final long position) {
+        if (position == head) return getCurrentSymbol();
+        if (position == head - 1) {
+            return offset > 0 ? getCurrentSymbol() : leftSymbols[leftRuns - 1];
+        }
+        if (position == head + 1) {
+            if (offset + 1 < rightLengths[rightRuns - 1]) return getCurrentSymbol();
+            return rightRuns > 1 ? rightSymbols[rightRuns - 2] : BLANK;
+        }
+        return getString().charAt((int) position);
+    }
+
+    @Override
+    void move(final char symbol, final Direction direction) {
+        write(symbol);
+        switch (direction) {
+            case RIGHT -> moveRight();
+            case LEFT -> moveLeft();
+            case STAY -> {}
+        }
+        head += direction.getValue();
+    }
+
+    @Override
+    void undo(final char overwrittenSymbol, final long headDelta, final boolean grew) {
+        if (headDelta > 0) moveLeft();
+        if (headDelta < 0) moveRight();
+        head -= headDelta;
+        if (grew) removeLastCell();
+        write(overwrittenSymbol);
+    }
+
+    private void write(final char symbol) {
+        final char currentSymbol = getCurrentSymbol();
+        if (currentSymbol == symbol) return;
+
+        final int before = offset;
+        final int after = rightLengths[--rightRuns] - offset - 1;
+        if (after > 0) pushRight(currentSymbol, after);
+        if (before > 0) pushLeft(currentSymbol, before);
+        int runLength = 1;
+        offset = 0;
+        if (before == 0 && leftRuns > 0 && leftSymbols[leftRuns - 1] == symbol) {
+            runLength += leftLengths[--leftRuns];
+            offset = runLength - 1;
+        }
+        if (after == 0 && rightRuns > 0 && rightSymbols[rightRuns - 1] == symbol) {
+            runLength += rightLengths[--rightRuns];
+        }
+        pushRight(symbol, runLength);
+    }
+
+    private void moveRight() {
+        if (++offset < rightLengths[rightRuns - 1]) return;
+        if (rightRuns == 1) {
+            length++;
+            if (rightSymbols[0] == BLANK) {
+                rightLengths[0]++;
+                return;
+            }
+            pushLeft(rightSymbols[0], rightLengths[0]);
+            rightSymbols[0] = BLANK;
+            rightLengths[0] = 1;
+        } else {
+            rightRuns--;
+            pushLeft(rightSymbols[rightRuns], rightLengths[rightRuns]);
+        }
+        offset = 0;
+    }
+
+    private void moveLeft() {
+        if (offset-- > 0) return;
+        leftRuns--;
+        pushRight(leftSymbols[leftRuns], leftLengths[leftRuns]);
+        offset = rightLengths[rightRuns - 1] - 1;
+    }
+
+    private void removeLastCell() {
+        length--;
+        if (--rightLengths[0] == 0) {
+            rightRuns--;
+            System.arraycopy(rightSymbols, 1, rightSymbols, 0, rightRuns);
+            System.arraycopy(rightLengths, 1, rightLengths, 0, rightRuns);
+        }
+    }
+
+    private void pushLeft(final char symbol, final int runLength) {
+        if (leftRuns == leftSymbols.length) {
+            leftSymbols = Arrays.copyOf(leftSymbols, leftRuns << 1);
+            leftLengths = Arrays.copyOf(leftLengths, leftRuns << 1);
+        }
+        leftSymbols[leftRuns] = symbol;
+        leftLengths[leftRuns++] = runLength;
+    }
+
+    private void pushRight(final char symbol, final int runLength) {
+        if (rightRuns == rightSymbols.length) {
+            rightSymbols = Arrays.copyOf(rightSymbols, rightRuns << 1);
+            rightLengths = Arrays.copyOf(rightLengths, rightRuns << 1);
+        }
+        rightSymbols[rightRuns] = symbol;
+        rightLengths[rightRuns++] = runLength;
+    }
+
+    @Override
+    public long getHead() { return head; }
+
+    @Override
+    public long getSpace() { return length; }
+
+    @Override
+    public String getString() {
+        final char[] string = new char[length];
+        int position = 0;
+        for (int i = 0; i < leftRuns; i++) {
+            Arrays.fill(string, position, position += leftLengths[i], leftSymbols[i]);
+        }
+        for (int i = rightRuns - 1; i >= 0; i--) {
+            Arrays.fill(string, position, position += rightLengths[i], rightSymbols[i]);
+        }
+        return String.valueOf(string);
+    }
+}
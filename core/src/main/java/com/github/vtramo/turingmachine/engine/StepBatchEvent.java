@@ -0,0 +1,20 @@
+package com.github.vtramo.turingmachine.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.vtramo.turingmachine.StepBatch")
+@Label("Step Batch")
+@Description("A batch of steps executed between two checks of the computation limits")
+@Category({ "Turing Machine", "Engine" })
+@StackTrace(false)
+final class StepBatchEvent extends Event {
+    @Label("Steps")
+    long steps;
+    @Label("State")
+    String state;
+}
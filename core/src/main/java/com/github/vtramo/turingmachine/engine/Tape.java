@@ -13,10 +13,10 @@ public class Tape {
     public Tape(char[] string, int cursor) {
         this.string = string;
         this.cursor = cursor;
-        checkString();
+        checkString(string, cursor);
     }
 
-    private void checkString() {
+    static void checkString(final char[] string, final int cursor) {
         Objects.requireNonNull(string);
         if (string.length == 0) throw new IllegalArgumentException("The tape cannot be empty!");
         if (string[0] != Symbol.START.getSymbol()) throw new StartSymbolNotFoundException();
@@ -49,6 +49,8 @@ public class Tape {
 
     public int getSpace() { return string.length; }
 
+    public int getCursor() { return cursor; }
+
     public static Tape of(final char[] string, final int cursor) {
         return new Tape(string, cursor);
     }
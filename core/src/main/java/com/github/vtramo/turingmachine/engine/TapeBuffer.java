@@ -0,0 +1,65 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.StartSymbolNotFoundException;
+
+public abstract class TapeBuffer {
+
+    public abstract char getCurrentSymbol();
+
+    abstract char getSymbol(long position);
+
+    public void checkMove(final Move move) {
+        checkMove(move.symbol(), move.direction());
+    }
+
+    void checkMove(final char symbol, final Direction direction) {
+        if (getCurrentSymbol() == Symbol.START.getSymbol() && direction != Direction.RIGHT) {
+            throw new InvalidTransitionException("Start symbol transition not respected!");
+        }
+        if (getHead() == 0 && symbol != Symbol.START.getSymbol()) {
+            throw new StartSymbolNotFoundException();
+        }
+    }
+
+    public void move(final Move move) {
+        checkMove(move);
+        move(move.symbol(), move.direction());
+    }
+
+    abstract void move(char symbol, Direction direction);
+
+    abstract void undo(char overwrittenSymbol, long headDelta, boolean grew);
+
+    // Frees the memory held outside of the heap: the buffer cannot be used afterwards
+    void release() {}
+
+    public abstract long getHead();
+
+    public abstract long getSpace();
+
+    public abstract String getString();
+
+    public Tape snapshot() {
+        return Tape.of(getString().toCharArray(), (int) getHead());
+    }
+
+    public static TapeBuffer of(final Tape tape) {
+        return of(tape, TapeRepresentation.ARRAY);
+    }
+
+    public static TapeBuffer of(final Tape tape, final TapeRepresentation representation) {
+        return of(tape, representation, new char[0]);
+    }
+
+    static TapeBuffer of(final Tape tape, final TapeRepresentation representation, final char[] alphabet) {
+        final char[] string = tape.getString().toCharArray();
+        return switch (representation) {
+            case ARRAY -> new ArrayTapeBuffer(string, tape.getCursor());
+            case RUN_LENGTH -> new RunLengthTapeBuffer(string, tape.getCursor());
+            case OFF_HEAP -> new OffHeapTapeBuffer(string, tape.getCursor(), false);
+            case MEMORY_MAPPED -> new OffHeapTapeBuffer(string, tape.getCursor(), true);
+            case PACKED -> new PackedTapeBuffer(string, tape.getCursor(), alphabet);
+        };
+    }
+}
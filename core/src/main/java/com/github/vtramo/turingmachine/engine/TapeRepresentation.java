@@ -0,0 +1,5 @@
+package com.github.vtramo.turingmachine.engine;
+
+public enum TapeRepresentation {
+    ARRAY, RUN_LENGTH, OFF_HEAP, MEMORY_MAPPED, PACKED
+}
@@ -0,0 +1,57 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+final class TransitionCache<K, V> {
+    private final Map<K, V> transitions;
+    private final int capacity;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    TransitionCache(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The cache capacity cannot be negative!");
+        this.capacity = capacity;
+        this.transitions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                final boolean evict = size() > TransitionCache.this.capacity;
+                if (evict) evictions++;
+                return evict;
+            }
+        };
+    }
+
+    synchronized V computeIfAbsent(final K key, final Function<K, V> resolver) {
+        final V cachedTransition = get(key);
+        if (cachedTransition != null) return cachedTransition;
+
+        final V transition = resolver.apply(key);
+        put(key, transition);
+        return transition;
+    }
+
+    synchronized V get(final K key) {
+        final V cachedTransition = transitions.get(key);
+        if (cachedTransition != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cachedTransition;
+    }
+
+    synchronized void put(final K key, final V transition) {
+        if (capacity > 0) transitions.put(key, transition);
+    }
+
+    synchronized void clear() {
+        transitions.clear();
+    }
+
+    synchronized TransitionCacheStatistics statistics() {
+        return new TransitionCacheStatistics(capacity, transitions.size(), hits, misses, evictions);
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.vtramo.turingmachine.engine;
+
+public record TransitionCacheStatistics(int capacity, int size, long hits, long misses, long evictions) {
+    public double hitRate() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,375 @@
+package com.github.vtramo.turingmachine.engine;
+
+import com.github.vtramo.turingmachine.engine.exception.NoNextConfigurationException;
+import com.github.vtramo.turingmachine.engine.exception.NoPreviousConfigurationException;
+import jdk.jfr.FlightRecorder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+public class TuringMachine {
+    private static final long LIMITS_CHECK_INTERVAL_STEPS = 1 << 16;
+
+    @Getter
+    private final String initialState;
+    @Getter
+    private final DeltaProgram program;
+
+    @Getter
+    @Setter
+    private String name;
+
+    @Getter
+    @Setter
+    private String description;
+
+    public TuringMachine(final String initialState, final DeltaProgram program) {
+        Objects.requireNonNull(initialState);
+        Objects.requireNonNull(program);
+        this.initialState = initialState;
+        this.program = program;
+    }
+
+    public int getTotalTapes() {
+        return program.getTotalTapes();
+    }
+
+    public Computation startComputation(final String input) {
+        return startComputation(input, ComputationOptions.defaults());
+    }
+
+    public Computation startComputation(final String input, final ComputationOptions options) {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(options);
+        return new Computation(input, options);
+    }
+
+    public class Computation implements AutoCloseable {
+        // Built on demand: snapshotting the tapes is linear in their length
+        private Configuration currentConfiguration;
+        @Getter
+        private long steps;
+        @Getter
+        private String output;
+
+        private final String input;
+        private final TapeRepresentation tapeRepresentation;
+        private final boolean loopDetection;
+        private final ExecutionBackend executionBackend;
+        private final CompiledMachine compiledMachine;
+        private final CompiledDeltaProgram compiledProgram;
+        private final TapeBuffer[] tapes;
+        private final UndoJournal journal;
+        private final Checkpoints checkpoints;
+        private Configuration journalStartConfiguration;
+        private long journalStartSteps;
+        private int state;
+
+        private Computation(final String input, final ComputationOptions options) {
+            this.input = input;
+            this.tapeRepresentation = options.getTapeRepresentation();
+            this.loopDetection = options.isLoopDetection();
+            this.executionBackend = options.getExecutionBackend();
+            this.compiledProgram = program.compile();
+            this.tapes = new TapeBuffer[program.getTotalTapes()];
+            this.compiledMachine = switch (options.getExecutionBackend()) {
+                case INTERPRETER -> null;
+                case BYTECODE -> tapeRepresentation == TapeRepresentation.ARRAY ? compiledProgram.newBytecodeMachine() : null;
+            };
+            this.journal = new UndoJournal(program.getTotalTapes());
+            buildInitialConfiguration();
+            this.checkpoints = new Checkpoints(options.getCheckpointPolicy(), currentConfiguration);
+        }
+        private void buildInitialConfiguration() {
+            final int totalTapes = program.getTotalTapes();
+            currentConfiguration = Configuration.buildInitialConfiguration(initialState, input, totalTapes);
+            journalStartConfiguration = currentConfiguration;
+            loadTapes(currentConfiguration, tapes, tapeRepresentation);
+            state = compiledProgram.stateId(currentConfiguration.getState());
+        }
+        private void loadTapes(final Configuration configuration, final TapeBuffer[] tapes, final TapeRepresentation tapeRepresentation) {
+            final Tape[] configurationTapes = configuration.getTapes();
+            final char[] alphabet = compiledProgram.alphabet();
+            for (int i = 0; i < tapes.length; i++) {
+                if (tapes[i] != null) tapes[i].release();
+                tapes[i] = TapeBuffer.of(configurationTapes[i], tapeRepresentation, alphabet);
+            }
+        }
+        public Configuration step() {
+            advance();
+            return getCurrentConfiguration();
+        }
+        // Like step, without building the configuration reached: it is built on demand by getCurrentConfiguration
+        public void advance() {
+            if (!hasNextConfiguration()) {
+                throw new NoNextConfigurationException();
+            }
+
+            journaledStep();
+            currentConfiguration = null;
+            if (checkpoints.isDue(journal.size())) checkpoints.add(journal.size(), getCurrentConfiguration());
+            if (isHaltingState()) setOutput();
+        }
+        public Configuration getCurrentConfiguration() {
+            if (currentConfiguration == null) {
+                currentConfiguration = snapshot(getStateName(), tapes);
+            }
+            return currentConfiguration;
+        }
+        private void journaledStep() {
+            journal.beforeStep(state, tapes);
+            state = compiledProgram.step(state, tapes);
+            journal.afterStep(tapes);
+            steps++;
+        }
+        public Configuration seek(final long targetSteps) {
+            if (targetSteps < journalStartSteps) {
+                throw new IllegalArgumentException("Step " + targetSteps + " precedes the recorded history!");
+            }
+
+            final int target = Math.toIntExact(targetSteps - journalStartSteps);
+            final Map.Entry<Integer, Configuration> checkpoint = checkpoints.floor(target);
+            final int checkpointPosition = checkpoint.getKey();
+            if (target < journal.size() || checkpointPosition > journal.size()) {
+                loadTapes(checkpoint.getValue(), tapes, tapeRepresentation);
+                state = compiledProgram.stateId(checkpoint.getValue().getState());
+                journal.rewindTo(checkpointPosition);
+                steps = journalStartSteps + checkpointPosition;
+            }
+            while (journal.size() < target && hasNextConfiguration()) {
+                journaledStep();
+                if (checkpoints.isDue(journal.size())) checkpoints.add(journal.size(), snapshot(getStateName(), tapes));
+            }
+
+            currentConfiguration = snapshot(getStateName(), tapes);
+            output = null;
+            if (isHaltingState()) setOutput();
+            return currentConfiguration;
+        }
+        /**
+         * The backend that runs this computation to the halt: the interpreter when the requested backend cannot run
+         * the program, or when loop detection is on.
+         */
+        public ExecutionBackend getExecutionBackend() {
+            return (compiledMachine == null || loopDetection) ? ExecutionBackend.INTERPRETER : executionBackend;
+        }
+        public long getRecordedSteps() {
+            return journalStartSteps + journal.recordedSize();
+        }
+        public ComputationResult runToHalt(final long maxSteps) {
+            return runToHalt(ComputationLimits.ofMaxSteps(maxSteps));
+        }
+        public ComputationResult runToHalt(final ComputationLimits limits) {
+            Objects.requireNonNull(limits);
+            // The event classes are only loaded once the flight recorder is running: loading them starts it up.
+            final boolean recording = FlightRecorder.isInitialized();
+            final ComputationEvent computationEvent = recording ? new ComputationEvent() : null;
+            if (recording) computationEvent.begin();
+            final long startNanos = System.nanoTime();
+            final long timeoutNanos = limits.timeoutNanos();
+            final CompiledDeltaProgram compiledProgram = this.compiledProgram;
+            final TapeBuffer[] tapes = this.tapes;
+
+            final LoopDetector loopDetector = loopDetection ? new LoopDetector(this.state, tapes) : null;
+            final long maxSteps = limits.maxSteps();
+            int state = this.state;
+            long executedSteps = 0;
+            ComputationOutcome interruption = null;
+            try {
+                while (!compiledProgram.isTerminalState(state) && interruption == null) {
+                    if (executedSteps == maxSteps || System.nanoTime() - startNanos >= timeoutNanos) {
+                        interruption = ComputationOutcome.BUDGET_EXHAUSTED;
+                        break;
+                    }
+                    if (limits.isCancelled()) {
+                        interruption = ComputationOutcome.CANCELLED;
+                        break;
+                    }
+
+                    final long batchStart = executedSteps;
+                    final long batchEnd = batchStart + Math.min(maxSteps - batchStart, LIMITS_CHECK_INTERVAL_STEPS);
+                    final StepBatchEvent batchEvent = recording ? new StepBatchEvent() : null;
+                    if (recording) batchEvent.begin();
+                    if (loopDetector == null && compiledMachine != null) {
+                        compiledMachine.state = state;
+                        try {
+                            compiledMachine.run(tapes, batchEnd - batchStart);
+                        } finally {
+                            state = compiledMachine.state;
+                            executedSteps += compiledMachine.steps;
+                        }
+                    } else if (loopDetector == null) {
+                        while (executedSteps < batchEnd && !compiledProgram.isTerminalState(state)) {
+                            state = compiledProgram.step(state, tapes);
+                            executedSteps++;
+                        }
+                    } else {
+                        while (executedSteps < batchEnd && !compiledProgram.isTerminalState(state)) {
+                            final int previousState = state;
+                            loopDetector.beforeStep(tapes);
+                            state = compiledProgram.step(state, tapes);
+                            executedSteps++;
+                            if (loopDetector.afterStep(previousState, state, tapes)) {
+                                interruption = ComputationOutcome.NON_HALTING;
+                                break;
+                            }
+                        }
+                    }
+                    if (recording) {
+                        batchEvent.end();
+                        if (batchEvent.shouldCommit()) {
+                            batchEvent.steps = executedSteps - batchStart;
+                            batchEvent.state = compiledProgram.state(state);
+                            batchEvent.commit();
+                        }
+                    }
+                }
+            } finally {
+                // A transition that throws leaves the tapes untouched, so they match the state and the steps reached
+                if (executedSteps > 0) {
+                    this.state = state;
+                    steps += executedSteps;
+                    currentConfiguration = snapshot(compiledProgram.state(state), tapes);
+                    journal.clear();
+                    journalStartConfiguration = currentConfiguration;
+                    journalStartSteps = steps;
+                    checkpoints.reset(currentConfiguration);
+                    if (isHaltingState()) setOutput();
+                }
+            }
+            final ComputationOutcome outcome = (interruption == null) ? getOutcome() : interruption;
+            if (recording) computationEvent.end();
+            if (recording && computationEvent.shouldCommit()) {
+                computationEvent.initialState = initialState;
+                computationEvent.tapes = tapes.length;
+                computationEvent.executionBackend = getExecutionBackend().name();
+                computationEvent.tapeRepresentation = tapeRepresentation.name();
+                computationEvent.steps = executedSteps;
+                computationEvent.space = getSpace();
+                computationEvent.outcome = outcome.name();
+                computationEvent.commit();
+            }
+            return new ComputationResult(outcome, getCurrentState(), output, steps, getSpace());
+        }
+        private static Configuration snapshot(final String state, final TapeBuffer[] tapes) {
+            final Tape[] snapshotTapes = new Tape[tapes.length];
+            for (int i = 0; i < tapes.length; i++) {
+                snapshotTapes[i] = tapes[i].snapshot();
+            }
+            return new Configuration(state, snapshotTapes);
+        }
+        public Transition getNextTransition() {
+            if (!hasNextConfiguration()) {
+                throw new NoNextConfigurationException();
+            }
+            return program.apply(getCurrentStateAndSymbols());
+        }
+        public Configuration stepBack() {
+            if (!hasPreviousConfiguration()) {
+                throw new NoPreviousConfigurationException();
+            }
+            steps--;
+            state = journal.undo(tapes);
+            currentConfiguration = null;
+            return getCurrentConfiguration();
+        }
+        private String getStateName() {
+            return state == CompiledDeltaProgram.UNKNOWN_STATE
+                ? journalStartConfiguration.getState()
+                : compiledProgram.state(state);
+        }
+        private void setOutput() {
+            if (!isHaltingState()) throw new IllegalStateException();
+            final TapeBuffer outputTape = tapes[tapes.length - 1];
+            final String output = outputTape.getString();
+            this.output = output.replaceAll("(_+)$", "").substring(1);
+        }
+        public StateAndSymbols getCurrentStateAndSymbols() {
+            final char[] symbols = new char[tapes.length];
+            for (int i = 0; i < tapes.length; i++) {
+                symbols[i] = tapes[i].getCurrentSymbol();
+            }
+            return new StateAndSymbols(getStateName(), symbols);
+        }
+        public boolean hasNextConfiguration() {
+            return !compiledProgram.isTerminalState(state);
+        }
+        public boolean hasPreviousConfiguration() {
+            return journal.size() > 0;
+        }
+        public String getCurrentState() {
+            return getStateName();
+        }
+        public boolean isHalted() {
+            return compiledProgram.isTerminalState(state);
+        }
+        private ComputationOutcome getOutcome() {
+            if (isAcceptingState()) return ComputationOutcome.ACCEPTED;
+            if (isRejectingStage()) return ComputationOutcome.REJECTED;
+            if (isHaltingState()) return ComputationOutcome.HALTED;
+            throw new IllegalStateException("The computation has not halted yet!");
+        }
+        public boolean isHaltingState() {
+            return compiledProgram.isHaltingState(state);
+        }
+        public boolean isAcceptingState() {
+            return compiledProgram.isAcceptingState(state);
+        }
+        public boolean isRejectingStage() {
+            return compiledProgram.isRejectingState(state);
+        }
+        // Frees the tapes kept outside of the heap: the computation cannot be used afterwards
+        @Override
+        public void close() {
+            for (final TapeBuffer tape: tapes) {
+                tape.release();
+            }
+        }
+        public List<Configuration> getConfigurations() {
+            return new ReplayedConfigurations();
+        }
+        public long getSpace() {
+            long space = 0;
+            for (final TapeBuffer tape: tapes) {
+                space += tape.getSpace();
+            }
+            return space;
+        }
+
+        // Configurations are not stored: each one is rebuilt by replaying the program from the
+        // nearest checkpoint. Sequential access resumes from the last configuration returned.
+        private class ReplayedConfigurations extends AbstractList<Configuration> implements RandomAccess {
+            private final TapeBuffer[] replayTapes = new TapeBuffer[tapes.length];
+            private int replayState;
+            private int replayIndex = -1;
+
+            @Override
+            public Configuration get(final int index) {
+                Objects.checkIndex(index, size());
+                final Map.Entry<Integer, Configuration> checkpoint = checkpoints.floor(index);
+                if (checkpoint.getKey() == index) return checkpoint.getValue();
+                if (index < replayIndex || replayIndex < checkpoint.getKey()) {
+                    // Every snapshot copies the tapes on the heap anyway, so replaying off the heap saves nothing
+                    loadTapes(checkpoint.getValue(), replayTapes, TapeRepresentation.ARRAY);
+                    replayState = compiledProgram.stateId(checkpoint.getValue().getState());
+                    replayIndex = checkpoint.getKey();
+                }
+                while (replayIndex < index) {
+                    replayState = compiledProgram.step(replayState, replayTapes);
+                    replayIndex++;
+                }
+                return snapshot(compiledProgram.state(replayState), replayTapes);
+            }
+
+            @Override
+            public int size() {
+                return journal.size() + 1;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+final class UndoJournal {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte STAY = 0;
+    private static final byte RIGHT = 1;
+    private static final byte LEFT = 2;
+    private static final byte GREW = 4;
+
+    private final int totalTapes;
+    private final long[] headsBeforeStep;
+    private final long[] spacesBeforeStep;
+    private int[] previousStates = new int[INITIAL_CAPACITY];
+    private char[] overwrittenSymbols;
+    private byte[] headMoves;
+    private int size;
+    private int recordedSize;
+
+    UndoJournal(final int totalTapes) {
+        this.totalTapes = totalTapes;
+        this.headsBeforeStep = new long[totalTapes];
+        this.spacesBeforeStep = new long[totalTapes];
+        this.overwrittenSymbols = new char[INITIAL_CAPACITY * totalTapes];
+        this.headMoves = new byte[INITIAL_CAPACITY * totalTapes];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int recordedSize() {
+        return recordedSize;
+    }
+
+    void beforeStep(final int state, final TapeBuffer[] tapes) {
+        if (size == previousStates.length) grow();
+        previousStates[size] = state;
+        final int offset = size * totalTapes;
+        for (int i = 0; i < totalTapes; i++) {
+            final TapeBuffer tape = tapes[i];
+            headsBeforeStep[i] = tape.getHead();
+            spacesBeforeStep[i] = tape.getSpace();
+            overwrittenSymbols[offset + i] = tape.getCurrentSymbol();
+        }
+    }
+
+    void afterStep(final TapeBuffer[] tapes) {
+        final int offset = size * totalTapes;
+        for (int i = 0; i < totalTapes; i++) {
+            final TapeBuffer tape = tapes[i];
+            final long headDelta = tape.getHead() - headsBeforeStep[i];
+            byte headMove = headDelta == 0 ? STAY : (headDelta > 0 ? RIGHT : LEFT);
+            if (tape.getSpace() != spacesBeforeStep[i]) headMove |= GREW;
+            headMoves[offset + i] = headMove;
+        }
+        size++;
+        recordedSize = Math.max(recordedSize, size);
+    }
+
+    int undo(final TapeBuffer[] tapes) {
+        if (size == 0) throw new IllegalStateException("The journal is empty!");
+        size--;
+        final int offset = size * totalTapes;
+        for (int i = 0; i < totalTapes; i++) {
+            final byte headMove = headMoves[offset + i];
+            final int headDelta = switch (headMove & ~GREW) {
+                case RIGHT -> 1;
+                case LEFT -> -1;
+                default -> 0;
+            };
+            tapes[i].undo(overwrittenSymbols[offset + i], headDelta, (headMove & GREW) != 0);
+        }
+        return previousStates[size];
+    }
+
+    // Entries past the current position stay valid: a run is deterministic, so stepping
+    // forward again records exactly the same entries.
+    void rewindTo(final int position) {
+        if (position < 0 || position > recordedSize) throw new IndexOutOfBoundsException(position);
+        size = position;
+    }
+
+    void clear() {
+        size = 0;
+        recordedSize = 0;
+    }
+
+    private void grow() {
+        final int capacity = previousStates.length << 1;
+        previousStates = Arrays.copyOf(previousStates, capacity);
+        overwrittenSymbols = Arrays.copyOf(overwrittenSymbols, capacity * totalTapes);
+        headMoves = Arrays.copyOf(headMoves, capacity * totalTapes);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.vtramo.turingmachine.engine;
+
+import java.util.Arrays;
+
+import static com.github.vtramo.turingmachine.engine.DeltaProgram.WILDCARD_PRECEDENCE;
+
+final class WildcardIndex {
+    private final Node root = new Node();
+
+    void add(final StateAndSymbols stateAndSymbolsWithAsterisks) {
+        root.add(stateAndSymbolsWithAsterisks, 0);
+    }
+
+    StateAndSymbols find(final char[] symbols) {
+        Node node = root;
+        for (final char symbol: symbols) {
+            final Node child = node.child(symbol);
+            node = (child == null) ? node.asterisk : child;
+            if (node == null) return null;
+        }
+        return node.pattern;
+    }
+
+    // Every concrete child also contains the patterns of its '*' sibling, so a lookup
+    // never has to backtrack: it follows the concrete child when there is one, the '*' child otherwise.
+    private static final class Node {
+        private char[] symbols = new char[0];
+        private Node[] children = new Node[0];
+        private Node asterisk;
+        private StateAndSymbols pattern;
+
+        private void add(final StateAndSymbols stateAndSymbols, final int depth) {
+            if (depth == stateAndSymbols.totalSymbols()) {
+                if (pattern == null || WILDCARD_PRECEDENCE.compare(stateAndSymbols, pattern) < 0) {
+                    pattern = stateAndSymbols;
+                }
+                return;
+            }
+
+            final char symbol = stateAndSymbols.symbols()[depth];
+            if (symbol == '*') {
+                if (asterisk == null) asterisk = new Node();
+                asterisk.add(stateAndSymbols, depth + 1);
+                for (final Node child: children) {
+                    child.add(stateAndSymbols, depth + 1);
+                }
+            } else {
+                Node child = child(symbol);
+                if (child == null) {
+                    child = (asterisk == null) ? new Node() : asterisk.copy();
+                    addChild(symbol, child);
+                }
+                child.add(stateAndSymbols, depth + 1);
+            }
+        }
+
+        private Node child(final char symbol) {
+            final int index = Arrays.binarySearch(symbols, symbol);
+            return index < 0 ? null : children[index];
+        }
+
+        private void addChild(final char symbol, final Node child) {
+            final int index = -(Arrays.binarySearch(symbols, symbol) + 1);
+            final char[] newSymbols = new char[symbols.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(symbols, 0, newSymbols, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newSymbols[index] = symbol;
+            newChildren[index] = child;
+            System.arraycopy(symbols, index, newSymbols, index + 1, symbols.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            symbols = newSymbols;
+            children = newChildren;
+        }
+
+        private Node copy() {
+            final Node copy = new Node();
+            copy.symbols = symbols.clone();
+            copy.children = new Node[children.length];
+            for (int i = 0; i < children.length; i++) {
+                copy.children[i] = children[i].copy();
+            }
+            copy.asterisk = (asterisk == null) ? null : asterisk.copy();
+            copy.pattern = pattern;
+            return copy;
+        }
+    }
+}
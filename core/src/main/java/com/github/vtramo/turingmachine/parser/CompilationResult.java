@@ -0,0 +1,23 @@
+package com.github.vtramo.turingmachine.parser;
+
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+
+import java.util.List;
+
+public record CompilationResult(TuringMachine turingMachine, ValidationResult validationResult) {
+    public boolean containsErrors() {
+        return validationResult.containsErrors();
+    }
+
+    public List<ValidationMessage> validationMessages() {
+        return validationResult.validationMessages();
+    }
+
+    static CompilationResult success(final TuringMachine turingMachine) {
+        return new CompilationResult(turingMachine, new ValidationResult(false, List.of()));
+    }
+
+    static CompilationResult failure(final ValidationResult validationResult) {
+        return new CompilationResult(null, validationResult);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.vtramo.turingmachine.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.vtramo.turingmachine.Parse")
+@Label("Parse")
+@Category({ "Turing Machine", "Parser" })
+@StackTrace(false)
+final class ParseEvent extends Event {
+    @Label("Definition Size")
+    @DataAmount
+    long definitionSize;
+    @Label("Tapes")
+    int tapes;
+    @Label("Instructions")
+    int instructions;
+}
@@ -0,0 +1,471 @@
+package com.github.vtramo.turingmachine.parser;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.engine.exception.DuplicateTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.MalformedInstructionException;
+import jdk.jfr.FlightRecorder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.vtramo.turingmachine.parser.TuringMachineParserYaml.FieldNames.*;
+
+public class TuringMachineParserYaml {
+    abstract static class FieldNames {
+        final static String NAME = "name";
+        final static String DESCRIPTION = "description";
+        final static String TAPES = "tapes";
+        final static String INITIAL_STATE = "initial_state";
+        final static String TRANSITIONS = "transitions";
+        final static String NEXT_STATE = "next_state";
+        final static String WRITE_SYMBOLS = "write";
+        final static String MOVES = "move";
+    }
+
+    private static final int MAXIMUM_TAPES = 100;
+    private static final List<String> REQUIRED_FIELDS = List.of(INITIAL_STATE, TAPES, TRANSITIONS);
+
+    private String name;
+    private String description;
+    private String initialState;
+    private DeltaProgram deltaProgram;
+    private int totalInstructions;
+    private List<ValidationMessage> diagnostics;
+
+    private final YAMLFactory yamlFactory = new YAMLFactory();
+    private final List<PendingInstruction> pendingInstructions = new ArrayList<>();
+
+    private record PendingInstruction(Instruction instruction, JsonLocation location) {}
+
+    public TuringMachine parse(final String content) throws JsonProcessingException {
+        final ParseEvent parseEvent = beginParseEvent();
+        final TuringMachine turingMachine;
+        try (final JsonParser parser = yamlFactory.createParser(content)) {
+            turingMachine = parse(parser);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        commit(parseEvent, content.length());
+        return turingMachine;
+    }
+
+    public TuringMachine parse(final FileInputStream inputStream) throws IOException {
+        final ParseEvent parseEvent = beginParseEvent();
+        final long definitionSize = inputStream.getChannel().size();
+        final TuringMachine turingMachine;
+        try (final JsonParser parser = yamlFactory.createParser(inputStream)) {
+            turingMachine = parse(parser);
+        }
+        commit(parseEvent, definitionSize);
+        return turingMachine;
+    }
+
+    /**
+     * Validates and compiles a program with a single parse. The problems the schema would report, the tapes that do
+     * not match and the duplicate keys are collected with their position instead of stopping the parse, and the
+     * machine is only built when there are none.
+     */
+    public CompilationResult compile(final String content) {
+        if (content.isBlank()) {
+            return CompilationResult.failure(ValidationResult.emptyCode(content.length()));
+        }
+
+        final ParseEvent parseEvent = beginParseEvent();
+        final List<ValidationMessage> validationMessages = diagnostics = new ArrayList<>();
+        TuringMachine turingMachine = null;
+        try (final JsonParser parser = yamlFactory.createParser(content)) {
+            turingMachine = parse(parser);
+        } catch (JsonProcessingException e) {
+            report(e.getLocation(), e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            diagnostics = null;
+        }
+
+        if (!validationMessages.isEmpty()) {
+            return CompilationResult.failure(new ValidationResult(true, validationMessages));
+        }
+        commit(parseEvent, content.length());
+        return CompilationResult.success(turingMachine);
+    }
+
+    // A single pass over the tokens: the instructions go straight into the delta program, they are only held back
+    // when the transitions come before the number of tapes.
+    private TuringMachine parse(final JsonParser parser) throws IOException {
+        name = description = initialState = null;
+        deltaProgram = null;
+        totalInstructions = 0;
+        pendingInstructions.clear();
+
+        final JsonToken rootToken = parser.nextToken();
+        final JsonLocation rootLocation = parser.currentTokenLocation();
+        if (rootToken != JsonToken.START_OBJECT) {
+            problem(parser, rootLocation, "The program must be an object!");
+            return null;
+        }
+
+        final Set<String> fieldNames = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonLocation fieldLocation = parser.currentTokenLocation();
+            parser.nextToken();
+            if (!fieldNames.add(fieldName)) {
+                problem(parser, fieldLocation, duplicateKey(fieldName));
+                parser.skipChildren();
+                continue;
+            }
+            switch (fieldName) {
+                case NAME -> name = readString(parser, fieldName);
+                case DESCRIPTION -> description = readString(parser, fieldName);
+                case TAPES -> parseTapes(parser);
+                case INITIAL_STATE -> initialState = readString(parser, fieldName);
+                case TRANSITIONS -> parseTransitions(parser);
+                default -> {
+                    problem(parser, fieldLocation, unknownProperty(fieldName));
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        for (final String requiredField: REQUIRED_FIELDS) {
+            if (!fieldNames.contains(requiredField)) {
+                problem(parser, rootLocation, missingProperty(requiredField));
+            }
+        }
+        if (deltaProgram == null || initialState == null || hasProblems()) return null;
+        return buildTuringMachine();
+    }
+
+    // The event class is only loaded once the flight recorder is running: loading it starts it up.
+    private static ParseEvent beginParseEvent() {
+        if (!FlightRecorder.isInitialized()) return null;
+        final ParseEvent parseEvent = new ParseEvent();
+        parseEvent.begin();
+        return parseEvent;
+    }
+
+    private void commit(final ParseEvent parseEvent, final long definitionSize) {
+        if (parseEvent == null) return;
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.definitionSize = definitionSize;
+            parseEvent.tapes = deltaProgram.getTotalTapes();
+            parseEvent.instructions = totalInstructions;
+            parseEvent.commit();
+        }
+    }
+
+    private TuringMachine buildTuringMachine() {
+        final TuringMachine turingMachine = new TuringMachine(initialState, deltaProgram);
+        turingMachine.setName(name);
+        turingMachine.setDescription(description);
+        return turingMachine;
+    }
+
+    private void parseTapes(final JsonParser parser) throws IOException {
+        final JsonLocation location = parser.currentTokenLocation();
+        if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+            problem(parser, location, "The value of \"" + TAPES + "\" must be an integer!");
+            parser.skipChildren();
+            return;
+        }
+
+        final long numberOfTapes = parser.getValueAsLong();
+        if (numberOfTapes < 1 || numberOfTapes > MAXIMUM_TAPES) {
+            problem(parser, location, "The number of tapes must be between 1 and " + MAXIMUM_TAPES + "!");
+            return;
+        }
+        initializeDeltaProgram(parser, (int) numberOfTapes);
+    }
+
+    private void initializeDeltaProgram(final JsonParser parser, final int numberOfTapes) throws JsonParseException {
+        deltaProgram = new DeltaProgram(numberOfTapes);
+        for (final PendingInstruction pendingInstruction: pendingInstructions) {
+            addInstruction(parser, pendingInstruction.instruction(), pendingInstruction.location());
+        }
+        pendingInstructions.clear();
+    }
+
+    private void addInstruction(
+        final JsonParser parser,
+        final Instruction instruction,
+        final JsonLocation location
+    ) throws JsonParseException {
+        if (deltaProgram == null) {
+            pendingInstructions.add(new PendingInstruction(instruction, location));
+            return;
+        }
+
+        final int totalTapes = deltaProgram.getTotalTapes();
+        final int totalSymbols = instruction.stateAndSymbols().totalSymbols();
+        final int totalMoves = instruction.transition().totalTapes();
+        if (totalSymbols != totalTapes) {
+            semanticProblem(parser, location, new MalformedInstructionException(
+                "The transition reads " + totalSymbols + " symbols, but there are " + totalTapes + " tapes!"));
+        } else if (totalMoves != totalTapes) {
+            semanticProblem(parser, location, new MalformedInstructionException(
+                "The transition moves on " + totalMoves + " tapes, but there are " + totalTapes + " tapes!"));
+        } else {
+            try {
+                totalInstructions = deltaProgram.addInstruction(instruction);
+            } catch (DuplicateTransitionException e) {
+                if (diagnostics == null) throw e;
+                report(location, "The transition " + instruction.stateAndSymbols().state() + ", "
+                    + new String(instruction.stateAndSymbols().symbols()) + " is defined more than once!");
+            }
+        }
+    }
+
+    private void parseTransitions(final JsonParser parser) throws IOException {
+        final JsonLocation transitionsLocation = parser.currentTokenLocation();
+        if (!expectObject(parser, TRANSITIONS)) return;
+
+        final Set<String> states = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String state = parser.currentName();
+            final JsonLocation stateLocation = parser.currentTokenLocation();
+            parser.nextToken();
+            if (!states.add(state)) {
+                problem(parser, stateLocation, duplicateKey(state));
+                parser.skipChildren();
+                continue;
+            }
+            if (!expectObject(parser, state)) continue;
+
+            final Set<String> allCurrentSymbols = new HashSet<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String currentSymbols = parser.currentName();
+                final JsonLocation currentSymbolsLocation = parser.currentTokenLocation();
+                parser.nextToken();
+                if (!allCurrentSymbols.add(currentSymbols)) {
+                    problem(parser, currentSymbolsLocation, duplicateKey(currentSymbols));
+                    parser.skipChildren();
+                    continue;
+                }
+                if (!expectObject(parser, currentSymbols)) continue;
+                parseInstruction(parser, state, currentSymbols, currentSymbolsLocation);
+            }
+
+            if (allCurrentSymbols.isEmpty()) {
+                problem(parser, stateLocation, "The state " + state + " must have at least one transition!");
+            }
+        }
+
+        if (states.isEmpty()) {
+            problem(parser, transitionsLocation, "The transitions must contain at least one state!");
+        }
+    }
+
+    private void parseInstruction(
+        final JsonParser parser,
+        final String currentState,
+        final String currentSymbols,
+        final JsonLocation currentSymbolsLocation
+    ) throws IOException {
+        String nextState = null, writeSymbols = null, moves = null;
+        boolean hasNextState = false, hasWriteSymbols = false, hasMoves = false;
+        JsonLocation movesLocation = currentSymbolsLocation;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonLocation fieldLocation = parser.currentTokenLocation();
+            parser.nextToken();
+            final boolean duplicate = switch (fieldName) {
+                case NEXT_STATE -> hasNextState;
+                case WRITE_SYMBOLS -> hasWriteSymbols;
+                case MOVES -> hasMoves;
+                default -> false;
+            };
+            if (duplicate) {
+                problem(parser, fieldLocation, duplicateKey(fieldName));
+                parser.skipChildren();
+                continue;
+            }
+            switch (fieldName) {
+                case NEXT_STATE -> {
+                    hasNextState = true;
+                    nextState = readString(parser, fieldName);
+                }
+                case WRITE_SYMBOLS -> {
+                    hasWriteSymbols = true;
+                    writeSymbols = readString(parser, fieldName);
+                }
+                case MOVES -> {
+                    hasMoves = true;
+                    movesLocation = fieldLocation;
+                    moves = readString(parser, fieldName);
+                }
+                default -> {
+                    problem(parser, fieldLocation, unknownProperty(fieldName));
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (!hasNextState) problem(parser, currentSymbolsLocation, missingProperty(NEXT_STATE));
+        if (!hasWriteSymbols) problem(parser, currentSymbolsLocation, missingProperty(WRITE_SYMBOLS));
+        if (!hasMoves) problem(parser, currentSymbolsLocation, missingProperty(MOVES));
+        if (nextState == null || writeSymbols == null || moves == null) return;
+
+        final char[] parsedCurrentSymbols;
+        final Move[] parsedMoves;
+        try {
+            parsedCurrentSymbols = parseSymbols(currentSymbols);
+        } catch (MalformedInstructionException e) {
+            semanticProblem(parser, currentSymbolsLocation, e);
+            return;
+        }
+        try {
+            parsedMoves = parseMoves(writeSymbols, moves);
+        } catch (IllegalArgumentException | MalformedInstructionException e) {
+            semanticProblem(parser, movesLocation, e);
+            return;
+        }
+
+        final StateAndSymbols stateAndSymbols = StateAndSymbols.of(currentState.strip(), parsedCurrentSymbols);
+        final Transition transition = Transition.of(nextState.strip(), parsedMoves);
+        addInstruction(parser, new Instruction(stateAndSymbols, transition), currentSymbolsLocation);
+    }
+
+    // Like the tree model, any scalar but null is read as a string: "write: 1" writes the symbol 1
+    private String readString(final JsonParser parser, final String fieldName) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (!token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+            problem(parser, parser.currentTokenLocation(), "The value of \"" + fieldName + "\" must be a string!");
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private boolean expectObject(final JsonParser parser, final String fieldName) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            problem(parser, parser.currentTokenLocation(), "The value of \"" + fieldName + "\" must be an object!");
+            parser.skipChildren();
+            return false;
+        }
+        return true;
+    }
+
+    private static char[] parseSymbols(final String symbols) {
+        final char[] parsedSymbols = new char[countFields(symbols)];
+        for (int i = 0, start = 0; i < parsedSymbols.length; i++) {
+            final int end = endOfField(symbols, start);
+            parsedSymbols[i] = parseSymbol(symbols, start, end);
+            start = end + 1;
+        }
+        return parsedSymbols;
+    }
+
+    private static Move[] parseMoves(final String writeSymbols, final String directions) {
+        final int totalMoves = countFields(writeSymbols);
+        if (countFields(directions) != totalMoves) {
+            throw new MalformedInstructionException("The transition must specify exactly one move for each tape!");
+        }
+
+        final Move[] moves = new Move[totalMoves];
+        for (int i = 0, symbolStart = 0, directionStart = 0; i < totalMoves; i++) {
+            final int symbolEnd = endOfField(writeSymbols, symbolStart);
+            final int directionEnd = endOfField(directions, directionStart);
+            final char symbol = parseSymbol(writeSymbols, symbolStart, symbolEnd);
+            final Direction direction = parseDirection(directions, directionStart, directionEnd);
+            moves[i] = Move.of(symbol, direction);
+            symbolStart = symbolEnd + 1;
+            directionStart = directionEnd + 1;
+        }
+        return moves;
+    }
+
+    private static int countFields(final String value) {
+        int fields = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == ',') fields++;
+        }
+        return fields;
+    }
+
+    private static int endOfField(final String value, final int start) {
+        final int end = value.indexOf(',', start);
+        return end == -1 ? value.length() : end;
+    }
+
+    private static char parseSymbol(final String value, final int start, final int end) {
+        final int symbolStart = skipWhitespaces(value, start, end);
+        if (symbolStart == end) {
+            throw new MalformedInstructionException("Missing symbol in '" + value + "'!");
+        }
+        int symbolEnd = end;
+        while (Character.isWhitespace(value.charAt(symbolEnd - 1))) symbolEnd--;
+        if (symbolEnd - symbolStart > 1) {
+            throw new MalformedInstructionException("The symbol '" + value.substring(symbolStart, symbolEnd)
+                + "' in '" + value + "' must be a single character!");
+        }
+        return value.charAt(symbolStart);
+    }
+
+    private static Direction parseDirection(final String value, final int start, final int end) {
+        final int directionStart = skipWhitespaces(value, start, end);
+        int directionEnd = end;
+        while (directionEnd > directionStart && Character.isWhitespace(value.charAt(directionEnd - 1))) directionEnd--;
+
+        final int length = directionEnd - directionStart;
+        if (length == 1 && value.charAt(directionStart) == '-') return Direction.STAY;
+        if (length == 2 && value.charAt(directionStart + 1) == '-' && value.charAt(directionStart) == '<') return Direction.LEFT;
+        if (length == 2 && value.charAt(directionStart + 1) == '>' && value.charAt(directionStart) == '-') return Direction.RIGHT;
+        throw new IllegalArgumentException("Direction symbol not recognized!");
+    }
+
+    private static int skipWhitespaces(final String value, int start, final int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) start++;
+        return start;
+    }
+
+    private boolean hasProblems() {
+        return diagnostics != null && !diagnostics.isEmpty();
+    }
+
+    // While compiling the problems are collected, while parsing the first one is thrown
+    private void problem(final JsonParser parser, final JsonLocation location, final String message) throws JsonParseException {
+        if (diagnostics == null) throw new JsonParseException(parser, message, location);
+        report(location, message);
+    }
+
+    private void semanticProblem(final JsonParser parser, final JsonLocation location, final RuntimeException exception) {
+        if (diagnostics == null) throw exception;
+        report(location, exception.getMessage());
+    }
+
+    // Same convention as the schema validator: zero-based lines, one-based columns
+    private void report(final JsonLocation location, final String message) {
+        final int line = Math.max(location.getLineNr(), 1);
+        final int column = Math.max(location.getColumnNr(), 1);
+        final String succinctMessage = message.lines().findFirst().orElse(message);
+        final String detailMessage = "[" + line + "," + column + "] " + message;
+        diagnostics.add(new ValidationMessage(line - 1, column, succinctMessage, detailMessage));
+    }
+
+    private static String duplicateKey(final String key) {
+        return "The key \"" + key + "\" is defined more than once!";
+    }
+
+    private static String unknownProperty(final String fieldName) {
+        return "The property \"" + fieldName + "\" is not allowed!";
+    }
+
+    private static String missingProperty(final String fieldName) {
+        return "The property \"" + fieldName + "\" is missing!";
+    }
+}
@@ -0,0 +1,13 @@
+module com.github.vtramo.turingmachine.core {
+    requires transitive com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.dataformat.yaml;
+    requires org.objectweb.asm;
+    requires jdk.jfr;
+    requires jdk.unsupported;
+    requires static lombok;
+
+    exports com.github.vtramo.turingmachine.parser;
+    exports com.github.vtramo.turingmachine.cli;
+    exports com.github.vtramo.turingmachine.engine;
+    exports com.github.vtramo.turingmachine.engine.exception;
+}
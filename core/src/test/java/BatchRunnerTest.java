@@ -0,0 +1,90 @@
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("A batch runner")
+public class BatchRunnerTest {
+
+    TuringMachine turingMachine;
+    List<String> palindromes;
+    List<String> nonPalindromes;
+
+    @BeforeAll
+    void loadCorpora() {
+        turingMachine = TuringMachinePrograms.isPalindromeTwoTapes();
+        palindromes = readCorpus("/palindrome-strings.csv");
+        nonPalindromes = readCorpus("/non-palindrome-strings.csv");
+    }
+
+    @SneakyThrows
+    static List<String> readCorpus(final String resource) {
+        try (final InputStream inputStream = BatchRunnerTest.class.getResourceAsStream(resource)) {
+            return new String(inputStream.readAllBytes()).lines().skip(1).filter(line -> !line.isBlank()).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same results of sequential runs, in input order")
+    public void sameResultsAsSequentialRuns() {
+        final List<String> inputs = Stream.concat(palindromes.stream(), nonPalindromes.stream()).toList();
+
+        final List<BatchResult> results = new BatchRunner(turingMachine, ComputationLimits.unlimited()).run(inputs);
+
+        assertThat(results, hasSize(inputs.size()));
+        for (int i = 0; i < inputs.size(); i++) {
+            final ComputationResult expected = turingMachine.startComputation(inputs.get(i)).runToHalt(Long.MAX_VALUE);
+            final BatchResult result = results.get(i);
+            assertThat(result.index(), is(equalTo((long) i)));
+            assertThat(result.input(), is(equalTo(inputs.get(i))));
+            assertThat(result.result(), is(equalTo(expected)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream every result and aggregate the outcomes")
+    public void streamResultsAndStatistics() {
+        final List<BatchResult> streamed = Collections.synchronizedList(new ArrayList<>());
+        final BatchRunner batchRunner = new BatchRunner(turingMachine, ComputationOptions.defaults(), ComputationLimits.unlimited(), 4);
+
+        final BatchStatistics statistics = batchRunner.run(Stream.concat(palindromes.stream(), nonPalindromes.stream()), streamed::add);
+
+        assertThat(streamed, hasSize(palindromes.size() + nonPalindromes.size()));
+        assertThat(statistics.inputs(), is(equalTo((long) streamed.size())));
+        assertThat(statistics.failures(), is(equalTo(0L)));
+        assertThat(statistics.outcomes().get(ComputationOutcome.ACCEPTED), is(equalTo((long) palindromes.size())));
+        assertThat(statistics.outcomes().get(ComputationOutcome.REJECTED), is(equalTo((long) nonPalindromes.size())));
+        assertThat(statistics.steps(), is(equalTo(streamed.stream().mapToLong(result -> result.result().steps()).sum())));
+    }
+
+    @Test
+    @DisplayName("Should report the inputs whose computation fails")
+    public void failures() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "t, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, 0", "t, 0, <-"));
+        deltaProgram.addInstruction(Instruction.of("t, >", "t, >, - "));
+        deltaProgram.addInstruction(Instruction.of("t, 1", "h, 1, - "));
+        final TuringMachine invalidTuringMachine = new TuringMachine("s", deltaProgram);
+
+        final List<BatchResult> results = new BatchRunner(invalidTuringMachine, ComputationLimits.ofMaxSteps(100)).run(List.of("1", "0"));
+
+        assertThat(results.get(0).isFailed(), is(false));
+        assertThat(results.get(0).result().outcome(), is(equalTo(ComputationOutcome.HALTED)));
+        assertThat(results.get(1).isFailed(), is(true));
+        assertThat(results.get(1).error(), is(instanceOf(InvalidTransitionException.class)));
+    }
+}
@@ -0,0 +1,106 @@
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.engine.exception.InvalidTransitionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("The compiled backends")
+public class CompiledBackendTest {
+
+    static final ComputationOptions BYTECODE = ComputationOptions.builder().executionBackend(ExecutionBackend.BYTECODE).build();
+
+    @Test
+    @DisplayName("Should produce the same results of the interpreter on random programs with bytecode")
+    public void sameResultsAsInterpreter() {
+        final Random random = new Random(14);
+        for (int i = 0; i < 200; i++) {
+            final TuringMachine turingMachine = MacroMachineTest.randomTuringMachine(random);
+            final String input = ComputationEquivalenceTest.randomInput(random, "01", random.nextInt(12));
+            final long maxSteps = random.nextInt(5_000);
+
+            final TuringMachine.Computation expected = turingMachine.startComputation(input);
+            final TuringMachine.Computation actual = turingMachine.startComputation(input, BYTECODE);
+
+            assertThat(actual.runToHalt(maxSteps), is(equalTo(expected.runToHalt(maxSteps))));
+            assertThat(actual.getCurrentConfiguration().toString(), is(equalTo(expected.getCurrentConfiguration().toString())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to move the head to the left of the start symbol")
+    public void invalidTransition() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "t, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, *", "t, *, <-"));
+        final TuringMachine turingMachine = new TuringMachine("s", deltaProgram);
+
+        assertThrows(InvalidTransitionException.class, () -> turingMachine.startComputation("0", BYTECODE).runToHalt(100));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionBackend.class)
+    @DisplayName("Should keep the configuration reached before a transition that breaks the start symbol rule")
+    public void invalidTransitionKeepsConfiguration(final ExecutionBackend executionBackend) {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "t, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, 0", "t, 1, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, _", "u, 0, <-"));
+        deltaProgram.addInstruction(Instruction.of("u, *", "u, *, <-"));
+        final TuringMachine turingMachine = new TuringMachine("s", deltaProgram);
+        final TuringMachine.Computation expected = turingMachine.startComputation("00");
+        for (int i = 0; i < 6; i++) {
+            expected.step();
+        }
+        final ComputationOptions options = ComputationOptions.builder().executionBackend(executionBackend).build();
+        final TuringMachine.Computation computation = turingMachine.startComputation("00", options);
+
+        assertThrows(InvalidTransitionException.class, () -> computation.runToHalt(100));
+        assertThat(computation.getSteps(), is(6L));
+        assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expected.getCurrentConfiguration().toString())));
+        assertThrows(InvalidTransitionException.class, computation::step);
+        assertThrows(InvalidTransitionException.class, () -> computation.runToHalt(100));
+        assertThat(computation.getSteps(), is(6L));
+        assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expected.getCurrentConfiguration().toString())));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the interpreter when the program is too large")
+    public void largeProgram() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        final int totalStates = 5_000;
+        deltaProgram.addInstruction(Instruction.of("q0, >", "q0, >, ->"));
+        for (int i = 0; i < totalStates; i++) {
+            final String nextState = i == totalStates - 1 ? "h" : "q" + (i + 1);
+            deltaProgram.addInstruction(Instruction.of("q" + i + ", 0", nextState + ", 1, ->"));
+            deltaProgram.addInstruction(Instruction.of("q" + i + ", 1", nextState + ", 0, ->"));
+            deltaProgram.addInstruction(Instruction.of("q" + i + ", _", nextState + ", 1, -"));
+        }
+        final TuringMachine turingMachine = new TuringMachine("q0", deltaProgram);
+
+        final ComputationResult result = turingMachine.startComputation("0101", BYTECODE).runToHalt(Long.MAX_VALUE);
+
+        assertThat(result, is(equalTo(turingMachine.startComputation("0101").runToHalt(Long.MAX_VALUE))));
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.HALTED)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/turing-machine-hello-world.yaml, BYTECODE",
+        "/turing-machine-palindrome-two-strings.yaml, BYTECODE",
+        "/turing-machine-sum-three-strings.yaml, INTERPRETER"
+    })
+    @DisplayName("Should only generate bytecode that the JIT compiler accepts")
+    public void hugeMethodLimit(final String programResource, final ExecutionBackend expectedBackend) {
+        final TuringMachine turingMachine = ComputationEquivalenceTest.loadProgram(programResource);
+
+        assertThat(turingMachine.startComputation("", BYTECODE).getExecutionBackend(), is(equalTo(expectedBackend)));
+    }
+}
@@ -0,0 +1,363 @@
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("A computation")
+public class ComputationEquivalenceTest {
+
+    static final List<String> BUNDLED_PROGRAMS = List.of(
+        "/turing-machine-hello-world.yaml",
+        "/turing-machine-palindrome-two-strings.yaml",
+        "/turing-machine-sum-three-strings.yaml",
+        "/turing-machine-two-s-complement.yaml",
+        "/turing-machine-copy-input-ten-strings.yaml"
+    );
+
+    static Stream<Arguments> programsAndInputs() {
+        final Random random = new Random(42);
+        final String[] alphabets = { "01", "01;", "01x" };
+        final List<Arguments> arguments = new ArrayList<>();
+        for (final String program: BUNDLED_PROGRAMS) {
+            for (final String alphabet: alphabets) {
+                for (int i = 0; i < 10; i++) {
+                    arguments.add(Arguments.of(program, randomInput(random, alphabet, i * 3)));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    static String randomInput(final Random random, final String alphabet, final int length) {
+        final StringBuilder input = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return input.toString();
+    }
+
+    @SneakyThrows
+    static TuringMachine loadProgram(final String resource) {
+        try (final InputStream inputStream = ComputationEquivalenceTest.class.getResourceAsStream(resource)) {
+            return new TuringMachineParserYaml().parse(new String(inputStream.readAllBytes()));
+        }
+    }
+
+    static List<Configuration> referenceRun(final TuringMachine turingMachine, final DeltaProgram program, final String input) {
+        final List<Configuration> configurations = new ArrayList<>();
+        Configuration configuration = Configuration.buildInitialConfiguration(
+            turingMachine.getInitialState(), input, turingMachine.getTotalTapes());
+        configurations.add(configuration);
+        while (!TerminalState.isTerminalState(configuration.getState())) {
+            final Transition transition = program.apply(configuration.getCurrentStateAndSymbols());
+            final Tape[] tapes = configuration.getTapes();
+            final Tape[] newTapes = new Tape[tapes.length];
+            for (int i = 0; i < tapes.length; i++) {
+                newTapes[i] = tapes[i].move(transition.moves().get(i));
+            }
+            configuration = new Configuration(transition.state(), newTapes);
+            configurations.add(configuration);
+        }
+        return configurations;
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should visit the same configurations as the reference interpreter")
+    public void sameConfigurationsAsReference(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<Configuration> expected = referenceRun(turingMachine, turingMachine.getProgram(), input);
+
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        final List<String> actual = new ArrayList<>();
+        actual.add(computation.getCurrentConfiguration().toString());
+        while (computation.hasNextConfiguration()) {
+            actual.add(computation.step().toString());
+        }
+
+        assertThat(actual, is(equalTo(expected.stream().map(Configuration::toString).toList())));
+        assertThat(computation.getSpace(), is(equalTo((long) expected.getLast().getSpace())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should reach the same configurations when advancing without building them")
+    public void advanceSameAsReference(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<Configuration> expected = referenceRun(turingMachine, turingMachine.getProgram(), input);
+
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        while (computation.hasNextConfiguration()) {
+            computation.advance();
+            assertThat(computation.getCurrentState(), is(equalTo(expected.get((int) computation.getSteps()).getState())));
+        }
+
+        assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expected.getLast().toString())));
+        assertThat(computation.getSpace(), is(equalTo((long) expected.getLast().getSpace())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should reach the same final configuration when run to halt")
+    public void runToHaltSameAsReference(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<Configuration> expected = referenceRun(turingMachine, turingMachine.getProgram(), input);
+
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        final ComputationResult result = computation.runToHalt(Long.MAX_VALUE);
+
+        final Configuration expectedFinalConfiguration = expected.getLast();
+        assertThat(result.isHalted(), is(true));
+        assertThat(result.state(), is(equalTo(expectedFinalConfiguration.getState())));
+        assertThat(result.steps(), is(equalTo((long) expected.size() - 1)));
+        assertThat(result.space(), is(equalTo((long) expectedFinalConfiguration.getSpace())));
+        assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expectedFinalConfiguration.toString())));
+    }
+
+    @Test
+    @DisplayName("Should grow an off-heap tape across many chunks")
+    public void largeOffHeapTape() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, _", "t, 1, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, _", "s, 0, ->"));
+        final TuringMachine turingMachine = new TuringMachine("s", deltaProgram);
+        final TuringMachine.Computation expected = turingMachine.startComputation("");
+        expected.runToHalt(500_000);
+
+        for (final TapeRepresentation tapeRepresentation: List.of(TapeRepresentation.OFF_HEAP, TapeRepresentation.MEMORY_MAPPED)) {
+            final ComputationOptions options = ComputationOptions.builder().tapeRepresentation(tapeRepresentation).build();
+            try (final TuringMachine.Computation computation = turingMachine.startComputation("", options)) {
+                computation.runToHalt(500_000);
+
+                assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expected.getCurrentConfiguration().toString())));
+                assertThat(computation.getSpace(), is(equalTo(expected.getSpace())));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse more than 256 distinct symbols on an off-heap tape")
+    public void offHeapTapeSymbolLimit() {
+        final Tape tape = Configuration.buildInitialConfiguration("s", "", 1).getTapes()[0];
+        final TapeBuffer tapeBuffer = TapeBuffer.of(tape, TapeRepresentation.OFF_HEAP);
+        tapeBuffer.move(Move.of('>', Direction.RIGHT));
+
+        // The blank and the start symbol are already coded, so 254 more symbols fit
+        for (int i = 0; i < 254; i++) {
+            tapeBuffer.move(Move.of((char) ('a' + i), Direction.STAY));
+        }
+        assertThrows(IllegalStateException.class, () -> tapeBuffer.move(Move.of((char) ('a' + 254), Direction.STAY)));
+    }
+
+    @Test
+    @DisplayName("Should widen the cells of a packed tape when new symbols are written")
+    public void packedTapeWidening() {
+        final Tape tape = Configuration.buildInitialConfiguration("s", "0110", 1).getTapes()[0];
+        final TapeBuffer expected = TapeBuffer.of(tape);
+        final TapeBuffer actual = TapeBuffer.of(tape, TapeRepresentation.PACKED);
+        final Random random = new Random(18);
+
+        for (int i = 0; i < 5_000; i++) {
+            final char symbol = i == 0 ? '>' : (char) ('a' + random.nextInt(i < 2_500 ? 10 : 300));
+            final Direction direction = i == 0 || random.nextInt(3) > 0 ? Direction.RIGHT : Direction.LEFT;
+            final Move move = Move.of(symbol, expected.getHead() == 1 && direction == Direction.LEFT ? Direction.RIGHT : direction);
+            expected.move(move);
+            actual.move(move);
+            assertThat(actual.getCurrentSymbol(), is(equalTo(expected.getCurrentSymbol())));
+        }
+
+        assertThat(actual.getString(), is(equalTo(expected.getString())));
+        assertThat(actual.getHead(), is(equalTo(expected.getHead())));
+    }
+
+    @Test
+    @DisplayName("Should copy the input on every tape of a machine with the maximum number of tapes")
+    public void maximumNumberOfTapes() {
+        final int totalTapes = 100;
+        final DeltaProgram deltaProgram = new DeltaProgram(totalTapes);
+        deltaProgram.addInstruction(Instruction.of("s" + ", >".repeat(totalTapes), "s" + ", >, ->".repeat(totalTapes)));
+        for (final String symbol: List.of("0", "1")) {
+            deltaProgram.addInstruction(Instruction.of("s, " + symbol + ", *".repeat(totalTapes - 1), "s" + (", " + symbol + ", ->").repeat(totalTapes)));
+        }
+        deltaProgram.addInstruction(Instruction.of("s, _" + ", *".repeat(totalTapes - 1), "h" + ", *, -".repeat(totalTapes)));
+        final TuringMachine turingMachine = new TuringMachine("s", deltaProgram);
+        final String input = randomInput(new Random(16), "01", 50);
+        final List<Configuration> expected = referenceRun(turingMachine, deltaProgram, input);
+
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        while (computation.hasNextConfiguration()) {
+            assertThat(computation.step().toString(), is(equalTo(expected.get((int) computation.getSteps()).toString())));
+        }
+        final ComputationResult result = turingMachine.startComputation(input).runToHalt(Long.MAX_VALUE);
+
+        assertThat(computation.getOutput(), is(equalTo(input)));
+        assertThat(result.output(), is(equalTo(input)));
+        assertThat(result.steps(), is(equalTo((long) expected.size() - 1)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should reach the same final configuration with the compiled backends")
+    public void compiledBackendsSameAsReference(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<Configuration> expected = referenceRun(turingMachine, turingMachine.getProgram(), input);
+        final List<ComputationOptions> backends = List.of(
+            ComputationOptions.builder().executionBackend(ExecutionBackend.BYTECODE).build(),
+            ComputationOptions.builder().executionBackend(ExecutionBackend.BYTECODE).tapeRepresentation(TapeRepresentation.RUN_LENGTH).build());
+
+        for (final ComputationOptions options: backends) {
+            final TuringMachine.Computation computation = turingMachine.startComputation(input, options);
+            final ComputationResult result = computation.runToHalt(Long.MAX_VALUE);
+
+            final Configuration expectedFinalConfiguration = expected.getLast();
+            assertThat(result.steps(), is(equalTo((long) expected.size() - 1)));
+            assertThat(result.space(), is(equalTo((long) expectedFinalConfiguration.getSpace())));
+            assertThat(computation.getCurrentConfiguration().toString(), is(equalTo(expectedFinalConfiguration.toString())));
+
+            final int maxSteps = (expected.size() - 1) / 2;
+            final TuringMachine.Computation limitedComputation = turingMachine.startComputation(input, options);
+            limitedComputation.runToHalt(maxSteps);
+            assertThat(limitedComputation.getCurrentConfiguration().toString(), is(equalTo(expected.get(maxSteps).toString())));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should stop after the maximum number of steps")
+    public void runToHaltStepLimit(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<Configuration> expected = referenceRun(turingMachine, turingMachine.getProgram(), input);
+        final int maxSteps = (expected.size() - 1) / 2;
+
+        final ComputationResult result = turingMachine.startComputation(input).runToHalt(maxSteps);
+
+        assertThat(result.steps(), is(equalTo((long) maxSteps)));
+        assertThat(result.state(), is(equalTo(expected.get(maxSteps).getState())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should undo every step and replay its history")
+    public void stepBackAndReplayHistory(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<String> expected = referenceRun(turingMachine, turingMachine.getProgram(), input)
+            .stream()
+            .map(Configuration::toString)
+            .toList();
+
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        while (computation.hasNextConfiguration()) {
+            computation.step();
+        }
+        assertThat(computation.getConfigurations().stream().map(Configuration::toString).toList(), is(equalTo(expected)));
+
+        for (int step = expected.size() - 2; step >= 0; step--) {
+            final Configuration configuration = computation.stepBack();
+            assertThat(configuration.toString(), is(equalTo(expected.get(step))));
+            assertThat(computation.getSteps(), is(equalTo((long) step)));
+        }
+        assertThat(computation.hasPreviousConfiguration(), is(false));
+        assertThat(computation.getConfigurations().stream().map(Configuration::toString).toList(), contains(expected.getFirst()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should keep a view of the configurations in sync with the steps taken and undone")
+    public void liveConfigurations(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<String> expected = referenceRun(turingMachine, turingMachine.getProgram(), input)
+            .stream()
+            .map(Configuration::toString)
+            .toList();
+        final TuringMachine.Computation computation = turingMachine.startComputation(input);
+        final List<Configuration> configurations = computation.getConfigurations();
+        final Random random = new Random(input.hashCode());
+
+        for (int i = 0; i < 2 * expected.size(); i++) {
+            if (computation.hasPreviousConfiguration() && (!computation.hasNextConfiguration() || random.nextInt(3) == 0)) {
+                computation.stepBack();
+            } else if (computation.hasNextConfiguration()) {
+                computation.advance();
+            }
+            final int size = (int) computation.getSteps() + 1;
+            assertThat(configurations.size(), is(equalTo(size)));
+            // Latest first, as the GUI shows them
+            for (int index = size - 1; index >= Math.max(0, size - 3); index--) {
+                assertThat(configurations.get(index).toString(), is(equalTo(expected.get(index))));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should visit and undo the same configurations with every tape representation")
+    public void tapeRepresentations(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<String> expected = referenceRun(turingMachine, turingMachine.getProgram(), input)
+            .stream()
+            .map(Configuration::toString)
+            .toList();
+
+        for (final TapeRepresentation tapeRepresentation: TapeRepresentation.values()) {
+            final ComputationOptions options = ComputationOptions.builder().tapeRepresentation(tapeRepresentation).build();
+            final TuringMachine.Computation computation = turingMachine.startComputation(input, options);
+            final List<String> actual = new ArrayList<>();
+            actual.add(computation.getCurrentConfiguration().toString());
+            while (computation.hasNextConfiguration()) {
+                actual.add(computation.step().toString());
+            }
+            assertThat(actual, is(equalTo(expected)));
+
+            for (int step = expected.size() - 2; step >= 0; step--) {
+                assertThat(computation.stepBack().toString(), is(equalTo(expected.get(step))));
+            }
+            final ComputationResult result = turingMachine.startComputation(input, options).runToHalt(Long.MAX_VALUE);
+            assertThat(result.steps(), is(equalTo((long) expected.size() - 1)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("programsAndInputs")
+    @DisplayName("Should seek back and forth to any recorded step")
+    public void seek(final String programResource, final String input) {
+        final TuringMachine turingMachine = loadProgram(programResource);
+        final List<String> expected = referenceRun(turingMachine, turingMachine.getProgram(), input)
+            .stream()
+            .map(Configuration::toString)
+            .toList();
+        final int finalStep = expected.size() - 1;
+
+        for (final CheckpointPolicy checkpointPolicy: List.of(CheckpointPolicy.everySteps(3), CheckpointPolicy.squareRoot())) {
+            final ComputationOptions options = ComputationOptions.builder().checkpointPolicy(checkpointPolicy).build();
+            final TuringMachine.Computation computation = turingMachine.startComputation(input, options);
+            final Random random = new Random(finalStep);
+            assertThat(computation.seek(finalStep + 10).toString(), is(equalTo(expected.getLast())));
+            assertThat(computation.getSteps(), is(equalTo((long) finalStep)));
+
+            for (int i = 0; i < 20; i++) {
+                final int step = random.nextInt(finalStep + 1);
+                assertThat(computation.seek(step).toString(), is(equalTo(expected.get(step))));
+                assertThat(computation.getSteps(), is(equalTo((long) step)));
+                if (computation.hasPreviousConfiguration()) {
+                    assertThat(computation.stepBack().toString(), is(equalTo(expected.get(step - 1))));
+                }
+            }
+            assertThat(computation.getRecordedSteps(), is(equalTo((long) finalStep)));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+import com.github.vtramo.turingmachine.engine.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("A non-halting Turing machine run under limits")
+public class ComputationLimitsTest {
+
+    TuringMachine turingMachine;
+
+    @BeforeAll
+    void createLoopingTuringMachine() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, *", "s, *, - "));
+        turingMachine = new TuringMachine("s", deltaProgram);
+    }
+
+    @Test
+    @DisplayName("Should stop when the step budget is exhausted")
+    public void stepBudget() {
+        final ComputationResult result = turingMachine.startComputation("0").runToHalt(ComputationLimits.ofMaxSteps(1_000));
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+        assertThat(result.steps(), is(equalTo(1_000L)));
+        assertThat(result.state(), is(equalTo("s")));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should stop when the deadline expires")
+    public void deadline() {
+        final ComputationResult result = turingMachine.startComputation("0")
+            .runToHalt(ComputationLimits.unlimited().withTimeout(Duration.ofMillis(50)));
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+        assertThat(result.steps(), is(greaterThan(0L)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should stop when cancelled")
+    public void cancellation() throws InterruptedException {
+        final CancellationToken cancellationToken = new CancellationToken();
+        final Thread canceller = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            cancellationToken.cancel();
+        });
+
+        final ComputationResult result = turingMachine.startComputation("0")
+            .runToHalt(ComputationLimits.unlimited().withCancellationToken(cancellationToken));
+        canceller.join();
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.CANCELLED)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should prove that a machine repeating a configuration never halts")
+    public void loopDetection() {
+        final ComputationOptions options = ComputationOptions.builder().loopDetection(true).build();
+
+        final ComputationResult result = turingMachine.startComputation("0", options).runToHalt(ComputationLimits.unlimited());
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.NON_HALTING)));
+        assertThat(result.steps(), is(lessThan(10L)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should prove that a machine bouncing over a tape it keeps rewriting never halts")
+    public void loopDetectionLongCycle() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, 0", "s, 1, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, 1", "s, 0, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, _", "b, _, <-"));
+        deltaProgram.addInstruction(Instruction.of("b, 0", "b, 0, <-"));
+        deltaProgram.addInstruction(Instruction.of("b, 1", "b, 1, <-"));
+        deltaProgram.addInstruction(Instruction.of("b, >", "s, >, ->"));
+        for (final TapeRepresentation tapeRepresentation: TapeRepresentation.values()) {
+            final ComputationOptions options = ComputationOptions.builder()
+                .loopDetection(true)
+                .tapeRepresentation(tapeRepresentation)
+                .build();
+
+            final ComputationResult result = new TuringMachine("s", deltaProgram)
+                .startComputation("0110100", options)
+                .runToHalt(ComputationLimits.unlimited());
+
+            assertThat(result.outcome(), is(equalTo(ComputationOutcome.NON_HALTING)));
+            assertThat(result.steps(), is(lessThan(200L)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not report a machine that keeps growing its tape as non-halting")
+    public void noLoopWhenTheTapeGrows() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, *", "s, 1, ->"));
+        final ComputationOptions options = ComputationOptions.builder().loopDetection(true).build();
+
+        final ComputationResult result = new TuringMachine("s", deltaProgram)
+            .startComputation("", options)
+            .runToHalt(ComputationLimits.ofMaxSteps(100_000));
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+    }
+
+    @Test
+    @DisplayName("Should report the terminal state when the machine halts within the limits")
+    public void haltsWithinLimits() {
+        final ComputationOptions options = ComputationOptions.builder().loopDetection(true).build();
+        final ComputationResult result = TuringMachinePrograms.isPalindromeTwoTapes()
+            .startComputation("0110", options)
+            .runToHalt(ComputationLimits.ofMaxSteps(1_000).withTimeout(Duration.ofSeconds(10)));
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.ACCEPTED)));
+    }
+}
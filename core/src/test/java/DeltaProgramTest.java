@@ -0,0 +1,86 @@
+import com.github.vtramo.turingmachine.engine.DeltaProgram;
+import com.github.vtramo.turingmachine.engine.Instruction;
+import com.github.vtramo.turingmachine.engine.StateAndSymbols;
+import com.github.vtramo.turingmachine.engine.TerminalState;
+import com.github.vtramo.turingmachine.engine.Transition;
+import com.github.vtramo.turingmachine.engine.TransitionCacheStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("A delta program with wildcard transitions")
+public class DeltaProgramTest {
+
+    DeltaProgram deltaProgram;
+
+    @BeforeEach
+    void createDeltaProgram() {
+        deltaProgram = new DeltaProgram(3);
+        deltaProgram.addInstruction(Instruction.of("q, *, *, *", "any   , *, -, *, -, *, -"));
+        deltaProgram.addInstruction(Instruction.of("q, *, 1, *", "second, *, -, *, -, *, -"));
+        deltaProgram.addInstruction(Instruction.of("q, 0, *, 1", "first , *, -, *, -, *, -"));
+        deltaProgram.addInstruction(Instruction.of("q, 0, 1, 1", "exact , 0, -, 1, -, 1, -"));
+        deltaProgram.addInstruction(Instruction.of("q, *, *, 0", "third , *, -, *, -, *, -"));
+    }
+
+    @Test
+    @DisplayName("Should prefer an exact match")
+    public void exactMatch() {
+        assertThat(deltaProgram.apply(StateAndSymbols.of("q", '0', '1', '1')).state(), is(equalTo("exact")));
+    }
+
+    @Test
+    @DisplayName("Should prefer the pattern with the leftmost concrete symbol")
+    public void leftmostConcreteSymbol() {
+        assertThat(deltaProgram.apply(StateAndSymbols.of("q", '0', '_', '1')).state(), is(equalTo("first")));
+        assertThat(deltaProgram.apply(StateAndSymbols.of("q", '0', '1', '0')).state(), is(equalTo("second")));
+        assertThat(deltaProgram.apply(StateAndSymbols.of("q", '1', '_', '0')).state(), is(equalTo("third")));
+        assertThat(deltaProgram.apply(StateAndSymbols.of("q", '1', '_', '_')).state(), is(equalTo("any")));
+    }
+
+    @Test
+    @DisplayName("Should replace asterisks with the symbols read")
+    public void replaceAsterisks() {
+        final var transition = deltaProgram.apply(StateAndSymbols.of("q", 'x', '1', 'y'));
+        assertThat(transition.moves().stream().map(move -> move.symbol()).toList(), contains('x', '1', 'y'));
+    }
+
+    @Test
+    @DisplayName("Should reject when no transition matches")
+    public void noMatch() {
+        assertThat(deltaProgram.apply(StateAndSymbols.of("p", '0', '1', '1')).state(),
+            is(equalTo(TerminalState.REJECTING_STATE.getSymbol())));
+    }
+
+    @Test
+    @DisplayName("Should reuse resolved wildcard transitions")
+    public void wildcardTransitionCache() {
+        final Transition first = deltaProgram.apply(StateAndSymbols.of("q", 'x', '1', 'y'));
+        final Transition second = deltaProgram.apply(StateAndSymbols.of("q", 'x', '1', 'y'));
+        deltaProgram.apply(StateAndSymbols.of("q", '0', '1', '1'));
+
+        final TransitionCacheStatistics statistics = deltaProgram.getWildcardTransitionCacheStatistics();
+        assertThat(second, is(sameInstance(first)));
+        assertThat(statistics.hits(), is(equalTo(1L)));
+        assertThat(statistics.misses(), is(equalTo(1L)));
+        assertThat(statistics.size(), is(equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used wildcard transitions")
+    public void wildcardTransitionCacheEviction() {
+        final DeltaProgram boundedDeltaProgram = new DeltaProgram(1, 2);
+        boundedDeltaProgram.addInstruction(Instruction.of("q, *", "h, *, -"));
+        for (final char symbol: "abcab".toCharArray()) {
+            boundedDeltaProgram.apply(StateAndSymbols.of("q", symbol));
+        }
+
+        final TransitionCacheStatistics statistics = boundedDeltaProgram.getWildcardTransitionCacheStatistics();
+        assertThat(statistics.size(), is(equalTo(2)));
+        assertThat(statistics.misses(), is(equalTo(5L)));
+        assertThat(statistics.evictions(), is(equalTo(3L)));
+    }
+}
@@ -0,0 +1,65 @@
+import com.github.vtramo.turingmachine.engine.ComputationLimits;
+import com.github.vtramo.turingmachine.engine.DeltaProgram;
+import com.github.vtramo.turingmachine.engine.Instruction;
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("The flight recorder events")
+public class FlightRecorderEventsTest {
+
+    @SneakyThrows
+    static List<RecordedEvent> record(final Runnable runnable, final String... eventNames) {
+        try (final Recording recording = new Recording()) {
+            for (final String eventName: eventNames) recording.enable(eventName);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            final Path file = Files.createTempFile("turing-machine", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should record a parse and a computation with its step batches")
+    public void parseAndComputation() {
+        final List<RecordedEvent> events = record(() -> {
+            ComputationEquivalenceTest.loadProgram("/turing-machine-hello-world.yaml");
+            final DeltaProgram deltaProgram = new DeltaProgram(1);
+            deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+            deltaProgram.addInstruction(Instruction.of("s, _", "s, 1, ->"));
+            new TuringMachine("s", deltaProgram).startComputation("").runToHalt(ComputationLimits.ofMaxSteps(200_000));
+        }, "com.github.vtramo.turingmachine.Parse", "com.github.vtramo.turingmachine.Computation", "com.github.vtramo.turingmachine.StepBatch");
+
+        final List<RecordedEvent> parseEvents = ofType(events, "com.github.vtramo.turingmachine.Parse");
+        final List<RecordedEvent> computationEvents = ofType(events, "com.github.vtramo.turingmachine.Computation");
+        final List<RecordedEvent> batchEvents = ofType(events, "com.github.vtramo.turingmachine.StepBatch");
+        assertThat(parseEvents, hasSize(1));
+        assertThat(parseEvents.getFirst().getLong("instructions"), is(greaterThan(0L)));
+        assertThat(computationEvents, hasSize(1));
+        assertThat(computationEvents.getFirst().getLong("steps"), is(equalTo(200_000L)));
+        assertThat(computationEvents.getFirst().getString("outcome"), is(equalTo("BUDGET_EXHAUSTED")));
+        assertThat(batchEvents, hasSize(4));
+        assertThat(batchEvents.stream().mapToLong(event -> event.getLong("steps")).sum(), is(equalTo(200_000L)));
+    }
+
+    static List<RecordedEvent> ofType(final List<RecordedEvent> events, final String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
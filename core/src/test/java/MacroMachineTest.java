@@ -0,0 +1,126 @@
+import com.github.vtramo.turingmachine.engine.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("A macro machine")
+public class MacroMachineTest {
+
+    static final String[] STATES = { "a", "b", "c", "d" };
+    static final String[] SYMBOLS = { "0", "1", "_" };
+    static final String[] DIRECTIONS = { "<-", "->", "-" };
+
+    static TuringMachine randomTuringMachine(final Random random) {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        for (final String state: STATES) {
+            deltaProgram.addInstruction(Instruction.of(state + ", >", STATES[random.nextInt(STATES.length)] + ", >, ->"));
+            for (final String symbol: SYMBOLS) {
+                if (random.nextInt(20) == 0) continue;
+                final String nextState = random.nextInt(15) == 0
+                    ? TerminalState.values()[random.nextInt(TerminalState.values().length)].getSymbol()
+                    : STATES[random.nextInt(STATES.length)];
+                deltaProgram.addInstruction(Instruction.of(state + ", " + symbol,
+                    nextState + ", " + SYMBOLS[random.nextInt(SYMBOLS.length)] + ", " + DIRECTIONS[random.nextInt(DIRECTIONS.length)]));
+            }
+        }
+        return new TuringMachine("a", deltaProgram);
+    }
+
+    static TuringMachine binaryCounter() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("r, >", "i, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("i, 0", "b, 1, <-"));
+        deltaProgram.addInstruction(Instruction.of("i, 1", "i, 0, ->"));
+        deltaProgram.addInstruction(Instruction.of("i, #", "h, #, -"));
+        deltaProgram.addInstruction(Instruction.of("b, *", "b, *, <-"));
+        deltaProgram.addInstruction(Instruction.of("b, >", "i, >, ->"));
+        return new TuringMachine("r", deltaProgram);
+    }
+
+    static void assertSameResult(final ComputationResult actual, final ComputationResult expected) {
+        assertThat(actual.outcome(), is(equalTo(expected.outcome())));
+        assertThat(actual.state(), is(equalTo(expected.state())));
+        assertThat(actual.steps(), is(equalTo(expected.steps())));
+        assertThat(actual.space(), is(equalTo(expected.space())));
+        assertThat(actual.output(), is(equalTo(expected.output())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 5 })
+    @DisplayName("Should produce the same results of the interpreter on random programs")
+    public void sameResultsAsInterpreter(final int blockSize) {
+        final Random random = new Random(blockSize);
+        for (int i = 0; i < 300; i++) {
+            final TuringMachine turingMachine = randomTuringMachine(random);
+            final String input = ComputationEquivalenceTest.randomInput(random, "01", random.nextInt(12));
+            final ComputationLimits limits = ComputationLimits.ofMaxSteps(random.nextInt(5_000));
+
+            final ComputationResult expected = turingMachine.startComputation(input).runToHalt(limits);
+            final ComputationResult actual = new MacroMachine(turingMachine, blockSize).run(input, limits);
+
+            assertSameResult(actual, expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4, 8 })
+    @DisplayName("Should produce the same result of the interpreter on a long halting run")
+    public void longHaltingRun(final int blockSize) {
+        final TuringMachine turingMachine = binaryCounter();
+        final String input = "0".repeat(12) + "#";
+
+        final ComputationResult expected = turingMachine.startComputation(input).runToHalt(Long.MAX_VALUE);
+        final ComputationResult actual = new MacroMachine(turingMachine, blockSize).run(input);
+
+        assertThat(actual.outcome(), is(equalTo(ComputationOutcome.HALTED)));
+        assertSameResult(actual, expected);
+    }
+
+    @Test
+    @DisplayName("Should keep at most as many macro transitions as the cache capacity")
+    public void boundedMacroTransitionCache() {
+        final TuringMachine turingMachine = binaryCounter();
+        final String input = "0".repeat(12) + "#";
+        final MacroMachine macroMachine = new MacroMachine(turingMachine, 4, 8);
+
+        final ComputationResult expected = turingMachine.startComputation(input).runToHalt(Long.MAX_VALUE);
+        final ComputationResult actual = macroMachine.run(input);
+
+        assertSameResult(actual, expected);
+        assertThat(macroMachine.getCachedMacroTransitions(), is(lessThanOrEqualTo(8)));
+        assertThat(macroMachine.getMacroTransitionCacheStatistics().evictions(), is(greaterThan(0L)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should sweep through runs of identical blocks at once")
+    public void sweepThroughIdenticalBlocks() {
+        final DeltaProgram deltaProgram = new DeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, *", "s, *, ->"));
+        final TuringMachine turingMachine = new TuringMachine("s", deltaProgram);
+        final MacroMachine macroMachine = new MacroMachine(turingMachine);
+
+        final ComputationResult result = macroMachine.run("", ComputationLimits.ofMaxSteps(1_000_000_000_000L));
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+        assertThat(result.steps(), is(equalTo(1_000_000_000_000L)));
+        assertThat(result.space(), is(equalTo(1_000_000_000_001L)));
+        assertThat(macroMachine.getCachedMacroTransitions(), is(lessThan(10)));
+    }
+
+    @Test
+    @DisplayName("Should refuse multi-tape Turing machines")
+    public void multiTapeTuringMachine() {
+        final TuringMachine turingMachine = new TuringMachine("s", new DeltaProgram(2));
+        assertThrows(IllegalArgumentException.class, () -> new MacroMachine(turingMachine));
+    }
+}
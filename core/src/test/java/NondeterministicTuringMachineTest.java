@@ -0,0 +1,115 @@
+import com.github.vtramo.turingmachine.engine.*;
+import com.github.vtramo.turingmachine.engine.exception.DuplicateTransitionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("A nondeterministic Turing machine")
+public class NondeterministicTuringMachineTest {
+
+    // Guesses the position of a '1', while another branch keeps spinning in place.
+    static NondeterministicTuringMachine containsOne() {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, *", "s, *, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, *", "s, *, - "));
+        deltaProgram.addInstruction(Instruction.of("s, 1", "yes, 1, - "));
+        deltaProgram.addInstruction(Instruction.of("s, 1", "s, 1, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, _", "no, _, - "));
+        return new NondeterministicTuringMachine("s", deltaProgram);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "0010, 4", "1, 2", "0000001, 8" })
+    @DisplayName("Should accept along the shortest accepting branch")
+    public void accept(final String input, final long depth) {
+        final ExplorationResult result = containsOne().explore(input);
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.ACCEPTED)));
+        assertThat(result.depth(), is(equalTo(depth)));
+        assertThat(result.acceptingConfiguration().getState(), is(equalTo("yes")));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should reject when every branch ends without accepting")
+    public void reject() {
+        final ExplorationResult result = containsOne().explore("0000");
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.REJECTED)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should stop when too many configurations have been explored")
+    public void maxConfigurations() {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, _", "s, 0, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, _", "s, 1, ->"));
+        final NondeterministicTuringMachine turingMachine = new NondeterministicTuringMachine("s", deltaProgram);
+
+        final ExplorationResult result = turingMachine.explore("", ComputationLimits.unlimited(), 1_000);
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+        assertThat(result.exploredConfigurations(), is(lessThan(4_000L)));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should stop in the middle of a level that has too many configurations")
+    public void maxConfigurationsWithinLevel() {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        for (final char symbol: "0123456789".toCharArray()) {
+            deltaProgram.addInstruction(Instruction.of("s, _", "s, " + symbol + ", ->"));
+        }
+        final NondeterministicTuringMachine turingMachine = new NondeterministicTuringMachine("s", deltaProgram);
+
+        final ExplorationResult result = turingMachine.explore("", ComputationLimits.unlimited(), 500);
+
+        assertThat(result.outcome(), is(equalTo(ComputationOutcome.BUDGET_EXHAUSTED)));
+        assertThat(result.exploredConfigurations(), is(lessThan(1_000L)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1, ACCEPTED", "0, REJECTED" })
+    @DisplayName("Should end the branches that break the start symbol rule")
+    public void invalidTransition(final String input, final ComputationOutcome outcome) {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, >, <-"));
+        deltaProgram.addInstruction(Instruction.of("s, 1", "yes, 1, - "));
+        deltaProgram.addInstruction(Instruction.of("s, 0", "no, 0, - "));
+        final NondeterministicTuringMachine turingMachine = new NondeterministicTuringMachine("s", deltaProgram);
+
+        assertThat(turingMachine.explore(input).outcome(), is(equalTo(outcome)));
+    }
+
+    @Test
+    @DisplayName("Should accept along a sibling of a branch that overwrites the start symbol")
+    public void startSymbolOverwritten() {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, >", "s, x, ->"));
+        deltaProgram.addInstruction(Instruction.of("s, >", "t, >, ->"));
+        deltaProgram.addInstruction(Instruction.of("t, 0", "yes, 0, - "));
+        final NondeterministicTuringMachine turingMachine = new NondeterministicTuringMachine("s", deltaProgram);
+
+        assertThat(turingMachine.explore("0").outcome(), is(equalTo(ComputationOutcome.ACCEPTED)));
+    }
+
+    @Test
+    @DisplayName("Should refuse the same transition twice")
+    public void duplicateTransition() {
+        final NondeterministicDeltaProgram deltaProgram = new NondeterministicDeltaProgram(1);
+        deltaProgram.addInstruction(Instruction.of("s, 0", "s, 1, ->"));
+
+        assertThrows(DuplicateTransitionException.class, () -> deltaProgram.addInstruction(Instruction.of("s, 0", "s, 1, ->")));
+    }
+}
@@ -0,0 +1,63 @@
+import com.github.vtramo.turingmachine.cli.TuringMachineCli;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("The command-line runner")
+public class TuringMachineCliTest {
+    static final String SUM_PROGRAM = "src/test/resources/turing-machine-sum-three-strings.yaml";
+
+    record Run(int exitCode, List<String> lines, String err) {}
+
+    static Run run(final String input, final String... args) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int exitCode = TuringMachineCli.run(
+            args,
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+        return new Run(exitCode, out.toString(StandardCharsets.UTF_8).lines().toList(), err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write one CSV line per input, in input order")
+    public void csv() {
+        final Run run = run("1;1\n0;0\n101;11\n", SUM_PROGRAM, "--parallelism", "3");
+
+        assertThat(run.exitCode(), is(equalTo(0)));
+        assertThat(run.lines(), hasSize(4));
+        assertThat(run.lines().get(0), is(equalTo("index,input,outcome,output,steps,space,elapsed_nanos,error")));
+        assertThat(run.lines().get(1), startsWith("0,1;1,HALTED,10,"));
+        assertThat(run.lines().get(2), startsWith("1,0;0,HALTED,0,"));
+        assertThat(run.lines().get(3), startsWith("2,101;11,HALTED,1000,"));
+    }
+
+    @Test
+    @DisplayName("Should write JSON lines and report the exhausted budgets")
+    public void jsonLines() {
+        final Run run = run("1;1\n", SUM_PROGRAM, "--format", "jsonl", "--max-steps", "3");
+
+        assertThat(run.exitCode(), is(equalTo(0)));
+        assertThat(run.lines(), hasSize(1));
+        assertThat(run.lines().getFirst(), startsWith("{\"index\":0,\"input\":\"1;1\",\"outcome\":\"BUDGET_EXHAUSTED\","));
+        assertThat(run.lines().getFirst(), containsString("\"steps\":3"));
+    }
+
+    @Test
+    @DisplayName("Should refuse unknown options")
+    public void usage() {
+        final Run run = run("", SUM_PROGRAM, "--colour", "red");
+
+        assertThat(run.exitCode(), is(equalTo(2)));
+        assertThat(run.err(), containsString("Unknown option --colour"));
+    }
+}
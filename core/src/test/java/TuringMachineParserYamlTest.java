@@ -0,0 +1,206 @@
+import com.github.vtramo.turingmachine.engine.Instruction;
+import com.github.vtramo.turingmachine.engine.StateAndSymbols;
+import com.github.vtramo.turingmachine.engine.TuringMachine;
+import com.github.vtramo.turingmachine.engine.exception.DuplicateTransitionException;
+import com.github.vtramo.turingmachine.engine.exception.MalformedInstructionException;
+import com.github.vtramo.turingmachine.parser.CompilationResult;
+import com.github.vtramo.turingmachine.parser.TuringMachineParserYaml;
+import com.github.vtramo.turingmachine.parser.TuringMachineValidatorYaml;
+import com.github.vtramo.turingmachine.parser.ValidationMessage;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("The streaming YAML parser")
+public class TuringMachineParserYamlTest {
+
+    static final String PROGRAM = """
+        transitions:
+          q0:
+            ' 0 ,* ':
+              next_state: ' q1 '
+              write: '1, *'
+              move: ' ->,<- '
+          q1:
+            '_,_':
+              next_state: h
+              write: '_,_'
+              move: '-,-'
+        name: Out of order
+        tapes: 2
+        initial_state: q0
+        description: The transitions come before the number of tapes
+        """;
+
+    @Test
+    @DisplayName("Should build the same instructions as the textual instruction format")
+    @SneakyThrows
+    public void sameInstructionsAsTextualFormat() {
+        final TuringMachine turingMachine = new TuringMachineParserYaml().parse(PROGRAM);
+
+        assertThat(turingMachine.getName(), is(equalTo("Out of order")));
+        assertThat(turingMachine.getTotalTapes(), is(2));
+        assertThat(turingMachine.getInitialState(), is(equalTo("q0")));
+
+        final Instruction first = Instruction.of("q0, 0, *", "q1, 1, ->, *, <-");
+        final Instruction second = Instruction.of("q1, _, _", "h, _, -, _, -");
+        assertThat(turingMachine.getProgram().apply(first.stateAndSymbols()), is(equalTo(first.transition())));
+        assertThat(turingMachine.getProgram().apply(second.stateAndSymbols()), is(equalTo(second.transition())));
+    }
+
+    @Test
+    @DisplayName("Should parse tens of thousands of transitions")
+    @SneakyThrows
+    public void largeProgram() {
+        final int states = 5_000;
+        final StringBuilder program = new StringBuilder("name: Large\ndescription: Large\ntapes: 1\ninitial_state: q0\ntransitions:\n");
+        for (int state = 0; state < states; state++) {
+            program.append("  q").append(state).append(":\n");
+            for (final char symbol: "01xy".toCharArray()) {
+                program.append("    '").append(symbol).append("':\n")
+                    .append("      next_state: q").append(state + 1).append('\n')
+                    .append("      write: '").append(symbol).append("'\n")
+                    .append("      move: '->'\n");
+            }
+        }
+
+        final TuringMachine turingMachine = new TuringMachineParserYaml().parse(program.toString());
+
+        assertThat(turingMachine.getProgram().apply(StateAndSymbols.of("q4999", 'y')).state(), is(equalTo("q5000")));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed transitions")
+    public void malformedTransitions() {
+        final String unknownDirection = PROGRAM.replace(" ->,<- ", "->,>>");
+        final String missingMove = PROGRAM.replace(" ->,<- ", "->");
+        final String duplicateTransition = PROGRAM.replace("  q1:\n    '_,_':", "    '0,*':");
+
+        assertThrows(IllegalArgumentException.class, () -> new TuringMachineParserYaml().parse(unknownDirection));
+        assertThrows(MalformedInstructionException.class, () -> new TuringMachineParserYaml().parse(missingMove));
+        assertThrows(DuplicateTransitionException.class, () -> new TuringMachineParserYaml().parse(duplicateTransition));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/turing-machine-hello-world.yaml",
+        "/turing-machine-palindrome-two-strings.yaml",
+        "/turing-machine-sum-three-strings.yaml",
+        "/turing-machine-two-s-complement.yaml",
+        "/turing-machine-copy-input-ten-strings.yaml"
+    })
+    @DisplayName("Should compile the bundled programs without diagnostics")
+    @SneakyThrows
+    public void compileBundledPrograms(final String resource) {
+        final String program;
+        try (final InputStream inputStream = TuringMachineParserYamlTest.class.getResourceAsStream(resource)) {
+            program = new String(inputStream.readAllBytes());
+        }
+
+        final CompilationResult compilationResult = new TuringMachineParserYaml().compile(program);
+
+        assertThat(compilationResult.containsErrors(), is(false));
+        assertThat(new TuringMachineValidatorYaml().validate(program).containsErrors(), is(false));
+        assertThat(compilationResult.turingMachine().getTotalTapes(),
+            is(equalTo(new TuringMachineParserYaml().parse(program).getTotalTapes())));
+    }
+
+    @Test
+    @DisplayName("Should collect every diagnostic with its position")
+    public void positionedDiagnostics() {
+        final String program = PROGRAM
+            .replace("      move: '-,-'\n", "      move: '-'\n")
+            .replace("name: Out of order", "name: Out of order\ncolour: red")
+            .replace("initial_state: q0\n", "initial_state: q0\ninitial_state: q1\n");
+
+        final CompilationResult compilationResult = new TuringMachineParserYaml().compile(program);
+
+        assertThat(compilationResult.containsErrors(), is(true));
+        assertThat(compilationResult.turingMachine(), is(nullValue()));
+        final List<Integer> lines = compilationResult.validationMessages().stream().map(ValidationMessage::line).toList();
+        assertThat(lines, containsInAnyOrder(10, 12, 15));
+    }
+
+    @Test
+    @DisplayName("Should read any scalar as a string")
+    @SneakyThrows
+    public void scalarsAsStrings() {
+        final String program = PROGRAM
+            .replace("name: Out of order", "name: 42")
+            .replace("  q1:\n    '_,_':", "  q1:\n    '1,_':\n      next_state: h\n      write: 1,0\n      move: '-,-'\n    '_,_':");
+
+        final TuringMachine turingMachine = new TuringMachineParserYaml().parse(program);
+
+        assertThat(turingMachine.getName(), is(equalTo("42")));
+        final Instruction instruction = Instruction.of("q1, 1, _", "h, 1, -, 0, -");
+        assertThat(turingMachine.getProgram().apply(instruction.stateAndSymbols()), is(equalTo(instruction.transition())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "' 0 ,* '", "'ab,*'", "'0,**'" })
+    @DisplayName("Should report the symbols longer than one character")
+    public void multiCharacterSymbols(final String currentSymbols) {
+        final String program = PROGRAM.replace("' 0 ,* '", currentSymbols);
+
+        final CompilationResult compilationResult = new TuringMachineParserYaml().compile(program);
+
+        assertThat(compilationResult.containsErrors(), is(!currentSymbols.equals("' 0 ,* '")));
+    }
+
+    @Test
+    @DisplayName("Should report a multi-character written symbol")
+    public void multiCharacterWrittenSymbol() {
+        final String program = PROGRAM.replace("write: '1, *'", "write: '10, *'");
+
+        final List<ValidationMessage> validationMessages = new TuringMachineParserYaml().compile(program).validationMessages();
+
+        assertThat(validationMessages, hasSize(1));
+        assertThat(validationMessages.getFirst().succinctMessage(), containsString("'10'"));
+    }
+
+    @Test
+    @DisplayName("Should report one-based columns like the schema validator")
+    public void oneBasedColumns() {
+        final String program = "tapes: 1\ninitial_state: q0\ntransitions:\n  q0:\n    '*':\n      next_state: h\n      write: '*'\n      move: '-'\n      read: '*'";
+
+        final ValidationMessage validationMessage = new TuringMachineParserYaml().compile(program).validationMessages().getFirst();
+
+        assertThat(validationMessage.line(), is(equalTo(8)));
+        assertThat(validationMessage.offset(), is(equalTo(7)));
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate state once")
+    public void duplicateState() {
+        final String program = PROGRAM.replace("  q1:\n    '_,_':", "  q0:\n    '0,*':");
+
+        final CompilationResult compilationResult = new TuringMachineParserYaml().compile(program);
+
+        assertThat(compilationResult.validationMessages().stream().map(ValidationMessage::line).toList(), contains(6));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "name: [unterminated",
+        "tapes: 1\ninitial_state: q0",
+        "tapes: 0\ninitial_state: q0\ntransitions:\n  q0:\n    '*':\n      next_state: h\n      write: '*'\n      move: '-'",
+        "tapes: 1\ninitial_state: q0\ntransitions:\n  q0: {}",
+        "tapes: 1\ninitial_state: q0\ntransitions:\n  q0:\n    '*':\n      next_state: h\n      write: '*'",
+        "tapes: 1\ninitial_state: q0\ntransitions:\n  q0:\n    '*':\n      next_state: h\n      write: '*'\n      move: '-'\n      read: '*'",
+        "tapes: one\ninitial_state: q0\ntransitions:\n  q0:\n    '*':\n      next_state: h\n      write: '*'\n      move: '-'"
+    })
+    @DisplayName("Should report the problems the schema reports")
+    public void sameProblemsAsSchema(final String program) {
+        assertThat(new TuringMachineValidatorYaml().validate(program).containsErrors(), is(true));
+        assertThat(new TuringMachineParserYaml().compile(program).containsErrors(), is(true));
+    }
+}
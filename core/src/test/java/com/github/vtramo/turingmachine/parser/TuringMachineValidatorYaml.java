@@ -1,8 +1,8 @@
 package com.github.vtramo.turingmachine.parser;
 
-import com.github.vtramo.turingmachine.TuringMachineApplication;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
+import jdk.jfr.FlightRecorder;
 import lombok.Getter;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.Problem;
@@ -20,10 +20,25 @@ public class TuringMachineValidatorYaml {
 
     public TuringMachineValidatorYaml() {
         service = JsonValidationService.newInstance();
-        schema = service.readSchema(TuringMachineApplication.getResourceAsInputStream(JSON_SCHEMA_PATH.toString()));
+        schema = service.readSchema(TuringMachineValidatorYaml.class.getResourceAsStream(JSON_SCHEMA_PATH.toString()));
     }
 
     public ValidationResult validate(final String mdtYamlDefinition) {
+        if (!FlightRecorder.isInitialized()) return validateDefinition(mdtYamlDefinition);
+
+        final ValidationEvent validationEvent = new ValidationEvent();
+        validationEvent.begin();
+        final ValidationResult validationResult = validateDefinition(mdtYamlDefinition);
+        validationEvent.end();
+        if (validationEvent.shouldCommit()) {
+            validationEvent.definitionSize = mdtYamlDefinition.length();
+            validationEvent.messages = validationResult.validationMessages().size();
+            validationEvent.commit();
+        }
+        return validationResult;
+    }
+
+    private ValidationResult validateDefinition(final String mdtYamlDefinition) {
         if (mdtYamlDefinition.isBlank()) {
             return ValidationResult.emptyCode(mdtYamlDefinition.length());
         }
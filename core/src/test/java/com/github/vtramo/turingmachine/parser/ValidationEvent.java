@@ -0,0 +1,20 @@
+package com.github.vtramo.turingmachine.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.vtramo.turingmachine.Validation")
+@Label("Validation")
+@Category({ "Turing Machine", "Parser" })
+@StackTrace(false)
+final class ValidationEvent extends Event {
+    @Label("Definition Size")
+    @DataAmount
+    long definitionSize;
+    @Label("Messages")
+    int messages;
+}